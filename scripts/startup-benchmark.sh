@@ -0,0 +1,68 @@
+#!/usr/bin/env bash
+# 기본 이미지(Dockerfile)와 빠른 기동 이미지(Dockerfile.faststart)의 기동 시간을 비교한다.
+# 컨테이너 시작부터 /actuator/health/readiness 가 200 을 돌려줄 때까지의 시간과
+# 스프링이 로그로 남기는 "Started ... in N seconds" 를 함께 기록한다.
+#
+# 사용: scripts/startup-benchmark.sh [반복 횟수] [env 파일]
+#   사전에 docker compose up -d redis 와 DB 가 떠 있어야 한다. (env 파일의 DB_URL 등을 그대로 사용)
+set -euo pipefail
+
+RUNS=${1:-5}
+ENV_FILE=${2:-.env}
+NETWORK=${NETWORK:-$(basename "$PWD" | tr '[:upper:]' '[:lower:]')_default}
+PORT=${PORT:-18080}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+# 기본 이미지(Dockerfile)가 Java 17 이므로 같은 조건으로 비교하려면 17 로 둔다.
+JAVA_VERSION=${JAVA_VERSION:-17}
+
+build_images() {
+  ./gradlew -q clean bootJar
+  docker build -q -f Dockerfile -t onboarding:baseline . >/dev/null
+  ./gradlew -q clean bootJar -Paot -PjavaVersion="$JAVA_VERSION"
+  docker build -q -f Dockerfile.faststart --build-arg JAVA_VERSION="$JAVA_VERSION" -t onboarding:faststart . >/dev/null
+}
+
+now_millis() {
+  date +%s%3N
+}
+
+# 컨테이너 하나를 띄워 readiness 까지 걸린 ms 와 스프링이 보고한 초를 출력한다.
+measure() {
+  local image=$1 name="startup-bench-$$"
+  local start ready
+  start=$(now_millis)
+  docker run -d --rm --name "$name" --network "$NETWORK" --env-file "$ENV_FILE" \
+    -e SPRING_REDIS_HOST=redis -e APP_SINGLE_INSTANCE=true -e MONITORING_JFR_ENABLED=false -p "$PORT:8080" "$image" >/dev/null
+  until curl -sf "http://localhost:$PORT/actuator/health/readiness" >/dev/null; do
+    if (( $(now_millis) - start > TIMEOUT_SECONDS * 1000 )); then
+      echo "timeout waiting for $image" >&2
+      docker logs "$name" >&2 || true
+      docker rm -f "$name" >/dev/null
+      exit 1
+    fi
+    sleep 0.05
+  done
+  ready=$(( $(now_millis) - start ))
+  local started
+  started=$(docker logs "$name" 2>&1 | sed -n 's/.*Started .* in \([0-9.]*\) seconds.*/\1/p' | head -1)
+  docker rm -f "$name" >/dev/null
+  echo "$ready $started"
+}
+
+report() {
+  local image=$1 total=0 results=()
+  for ((i = 1; i <= RUNS; i++)); do
+    read -r ready started < <(measure "$image")
+    results+=("$ready")
+    total=$((total + ready))
+    printf '  %-22s run %d: ready %5d ms (spring: %ss)\n' "$image" "$i" "$ready" "$started"
+  done
+  local median
+  median=$(printf '%s\n' "${results[@]}" | sort -n | sed -n "$(( (RUNS + 1) / 2 ))p")
+  printf '%-24s avg %5d ms, median %5d ms\n' "$image" $((total / RUNS)) "$median"
+}
+
+build_images
+echo "Startup time until readiness ($RUNS runs each)"
+report onboarding:baseline
+report onboarding:faststart
@@ -0,0 +1,79 @@
+package com.example;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 합성 모델: 플랫폼 스레드 풀(톰캣 기본 200개)과 가상 스레드 실행기의 처리량/지연 비교.
+ * 요청 하나는 실제 서비스가 아니라 Thread.sleep(blockingMillis) 로 MySQL/Redis 대기를 흉내 낸 것이다.
+ * 따라서 결과는 "대기 시간이 이만큼인 블로킹 작업"에 대한 실행기의 상한이며, 로그인/재발급의 실제 처리량이 아니다.
+ * BCrypt, JWT 서명, 커넥션 풀 경합, 가상 스레드 고정(pinning)은 반영되지 않는다.
+ *
+ * <p>virtual 모드는 Java 21 이상에서만 동작한다: ./gradlew jmh -PjavaVersion=21 -PjmhIncludes=SimulatedBlockingExecutorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class SimulatedBlockingExecutorBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    // 동시에 들어오는 요청 수
+    @Param({"1000", "5000"})
+    private int concurrentRequests;
+
+    // DB 조회 + Redis 호출을 대신하는 sleep 시간
+    @Param({"5"})
+    private int blockingMillis;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() throws Exception {
+        if ("virtual".equals(mode)) {
+            // Java 17 에서도 컴파일되도록 리플렉션으로 찾는다.
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            executor = (ExecutorService) factory.invoke(null);
+        } else {
+            executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // 동시 요청 한 묶음을 모두 처리하는 시간
+    @Benchmark
+    public long burst() throws Exception {
+        List<Future<Long>> futures = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            futures.add(executor.submit(this::simulatedRequest));
+        }
+        long sum = 0;
+        for (Future<Long> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+
+    private long simulatedRequest() throws InterruptedException {
+        long start = System.nanoTime();
+        Thread.sleep(blockingMillis);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.common;
+
+import com.example.common.exception.ErrorResponseBodies;
+import com.example.domain.login.dto.response.LoginResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    // 스프링 부트 기본 ObjectMapper 와 같은 날짜 직렬화 설정
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private LoginResponse loginResponse;
+    private ErrorResponseBodies errorResponseBodies;
+
+    @Setup
+    public void setUp() {
+        errorResponseBodies = new ErrorResponseBodies(objectMapper);
+        loginResponse = new LoginResponse(
+                "Bearer eyJhbGciOiJIUzI1NiJ9.eyJjYXRlZ29yeSI6IkFDQ0VTUyIsInN1YiI6IjEifQ.signature",
+                "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIxIiwiY2F0ZWdvcnkiOiJSRUZSRVNIIn0.signature"
+        );
+    }
+
+    @Benchmark
+    public byte[] serializeLoginResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.ok("로그인 성공", loginResponse));
+    }
+
+    // 에러 응답: 매번 직렬화 vs 미리 직렬화한 본문에 시각만 붙이기
+    @Benchmark
+    public byte[] serializeErrorResponse() throws JsonProcessingException {
+        ErrorStatus status = ErrorStatus.INVALID_CREDENTIALS;
+        return objectMapper.writeValueAsBytes(ApiResponse.createError(status.getHttpStatus().value(), status.getMessage()));
+    }
+
+    @Benchmark
+    public byte[] preSerializedErrorResponse() {
+        return errorResponseBodies.body(ErrorStatus.INVALID_CREDENTIALS);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.domain.signup.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordValidationBenchmark {
+
+    @Param({"ValidPassword123!", "weakpass"})
+    private String password;
+
+    // 비교 기준: 이전 SignupService.validatePassword 의 방식 (String.matches 는 호출마다 정규식 컴파일)
+    @Benchmark
+    public boolean stringMatches() {
+        return password.matches(SignupService.PASSWORD_REGEX);
+    }
+
+    // 현재 SignupService.validatePassword 와 같다. (미리 컴파일한 PASSWORD_PATTERN)
+    @Benchmark
+    public boolean precompiledPattern() {
+        return SignupService.PASSWORD_PATTERN.matcher(password).matches();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.security;
+
+import com.example.domain.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * verbose / compact 액세스 토큰 비교. Authorization 헤더 크기는 verify 의 보조 지표(authorizationHeaderBytes)로
+ * 처리량과 함께 results.json 에 남는다.
+ * ./gradlew jmh -PjmhIncludes=AccessTokenFormatBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessTokenFormatBenchmark {
+
+    // 실제 사용자와 비슷한 길이의 값
+    private static final long USER_ID = 123456789L;
+    private static final String NICKNAME = "닉네임닉네임";
+    private static final String USERNAME = "username1234";
+    private static final String DEVICE_ID = "Xq3v9LmT0aBcDeFg";
+
+    @Param({"false", "true"})
+    private boolean compact;
+
+    @Param({"false", "true"})
+    private boolean fastPath;
+
+    private JwtUtil jwtUtil;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtBenchmarkSupport.newJwtUtil(fastPath, compact);
+        authorizationHeader = jwtUtil.createAccessToken(USER_ID, NICKNAME, USERNAME, UserRole.ROLE_USER, DEVICE_ID);
+    }
+
+    // 요청마다 필터가 하는 일: 접두사 제거 후 검증
+    @Benchmark
+    public ParsedToken verify(HeaderSize headerSize) {
+        return jwtUtil.parseAccessToken(jwtUtil.substringToken(authorizationHeader));
+    }
+
+    @Benchmark
+    public String create() {
+        return jwtUtil.createAccessToken(USER_ID, NICKNAME, USERNAME, UserRole.ROLE_USER, DEVICE_ID);
+    }
+
+    /**
+     * 헤더 크기를 JMH 보조 카운터로 내보낸다. EVENTS 카운터는 반복이 끝날 때의 값을 그대로 보고하므로
+     * 반복마다 크기를 다시 넣어 두면 결과에 바이트 수가 그대로 남는다. (@Fork(1), 스레드 1개 기준)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeaderSize {
+
+        public long authorizationHeaderBytes;
+
+        @Setup(Level.Iteration)
+        public void setUp(AccessTokenFormatBenchmark benchmark) {
+            authorizationHeaderBytes = benchmark.authorizationHeader.getBytes(StandardCharsets.US_ASCII).length;
+        }
+    }
+}
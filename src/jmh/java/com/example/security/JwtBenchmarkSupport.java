@@ -0,0 +1,41 @@
+package com.example.security;
+
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 벤치마크에서 스프링 컨텍스트 없이 JwtUtil 을 초기화하기 위한 헬퍼.
+ */
+final class JwtBenchmarkSupport {
+
+    static final String SECRET_KEY = "dXNlcktleUluQmFzZTY0Rm9ybWF0MTIzNDU2Nzg5MDEyMzQ1Njc4OTA=";
+
+    private JwtBenchmarkSupport() {
+    }
+
+    static JwtUtil newJwtUtil(boolean fastPath) {
+        return newJwtUtil(fastPath, false);
+    }
+
+    static JwtUtil newJwtUtil(boolean fastPath, boolean compactAccessToken) {
+        JwtUtil jwtUtil = new JwtUtil(new JwtKeyRing(new JwtSigningProperties("HS256", null, List.of(), Duration.ofMinutes(5), true)));
+        setField(jwtUtil, "secretKey", SECRET_KEY);
+        setField(jwtUtil, "fastPathEnabled", fastPath);
+        setField(jwtUtil, "compactAccessToken", compactAccessToken);
+
+        Method init = ReflectionUtils.findMethod(JwtUtil.class, "init");
+        ReflectionUtils.makeAccessible(init);
+        ReflectionUtils.invokeMethod(init, jwtUtil);
+        return jwtUtil;
+    }
+
+    private static void setField(JwtUtil jwtUtil, String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtUtil.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtUtil, value);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.security;
+
+import com.example.domain.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    @Param({"false", "true"})
+    private boolean fastPath;
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtBenchmarkSupport.newJwtUtil(fastPath);
+        accessToken = jwtUtil.createAccessToken(1L, "nickname", "username", UserRole.ROLE_USER, "device-1")
+                .substring(JwtUtil.BEARER_PREFIX.length());
+        refreshToken = jwtUtil.createRefreshToken(1L, "device-1");
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken(1L, "nickname", "username", UserRole.ROLE_USER, "device-1");
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtUtil.createRefreshToken(1L, "device-1");
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(accessToken);
+    }
+
+    @Benchmark
+    public ParsedToken parseRefreshToken() {
+        return jwtUtil.parse(refreshToken);
+    }
+
+    // fastPath=true 이면 Hs256TokenVerifier, false 이면 jjwt 경로
+    @Benchmark
+    public ParsedToken parseAccessToken() {
+        return jwtUtil.parseAccessToken(accessToken);
+    }
+}
@@ -1,13 +1,12 @@
 package com.example.common;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
 
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 @Getter
-@AllArgsConstructor
 public enum ErrorStatus implements BaseCode {
     //예외 예시
     EXAMPLE_ERROR(HttpStatus.BAD_REQUEST, 400, "ApiException 예외 처리 예시"),
@@ -18,15 +17,26 @@ public enum ErrorStatus implements BaseCode {
 
     EXPIRED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED,401,"만료된 리프레쉬 토큰입니다."),
     INVALID_REFRESH_TOKEN(HttpStatus.BAD_REQUEST, 400, "잘못된 리프레쉬 토큰입니다"),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, 401, "유효하지 않은 토큰입니다."),
     // 유저 관련 예외
     FORBIDDEN_TOKEN(HttpStatus.FORBIDDEN, 403, "관리자 권한이 없습니다."),
     DUPLICATE_NICKNAME(HttpStatus.BAD_REQUEST, 400, "중복된 닉네임 입니다."),
+    DUPLICATE_USERNAME(HttpStatus.BAD_REQUEST, 400, "중복된 아이디 입니다."),
     NOT_FOUND_USER(HttpStatus.NOT_FOUND, 404, "유저를 찾을 수 없습니다."),
 
     INVALID_CREDENTIALS(HttpStatus.BAD_REQUEST,400,"잘못된 비밀번호 입니다."),
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, 400, "비밀번호는 대소문자 포함 영문 + 숫자 + 특수문자를 최소 1글자씩 포함해야 하며, 최소 8글자 이상이어야 합니다."),
 
 
+    // 부하 관련 예외
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 503, "서버가 혼잡합니다. 잠시 후 다시 시도해 주세요."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, 429, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+
+    // 모니터링 관련 예외
+    FLIGHT_RECORDING_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, 503, "진행 중인 JFR 레코딩이 없습니다."),
+    SIGNUP_FILTER_REBUILD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 500, "가입 중복 검사 필터를 재구축하지 못했습니다."),
+
     // DB 관련 예외
     SQL_EXCEPTION_OCCURRED(HttpStatus.INTERNAL_SERVER_ERROR, 500, "데이터베이스 작업 처리 중 예외가 발생했습니다.");
 
@@ -35,12 +45,23 @@ public enum ErrorStatus implements BaseCode {
     private final Integer statusCode;
     private final String message;
 
-    @Override
-    public ExceptionCause getCauseHttpStatus() {
-        return ExceptionCause.builder()
+    // 예외를 던질 때마다 새로 만들지 않도록 상수마다 한 번만 만든다.
+    @Getter(AccessLevel.NONE)
+    private final ExceptionCause cause;
+
+    ErrorStatus(HttpStatus httpStatus, Integer statusCode, String message) {
+        this.httpStatus = httpStatus;
+        this.statusCode = statusCode;
+        this.message = message;
+        this.cause = ExceptionCause.builder()
                 .httpStatus(httpStatus)
                 .statusCode(statusCode)
                 .message(message)
                 .build();
     }
+
+    @Override
+    public ExceptionCause getCauseHttpStatus() {
+        return cause;
+    }
 }
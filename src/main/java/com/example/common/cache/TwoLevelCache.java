@@ -0,0 +1,168 @@
+package com.example.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * 로컬(Caffeine) 캐시 앞단 + 선택적인 공유(Redis) 캐시 뒷단으로 구성된 2단 캐시.
+ *
+ * 조회는 로컬 → 공유 순으로 하고, 공유 캐시에서 찾은 값은 로컬에도 채운다.
+ * evict 는 두 단계 모두에서 지우고 invalidationPublisher 로 다른 노드의 로컬 캐시도 지우게 한다.
+ */
+@Slf4j(topic = "Two_Level_Cache")
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final Cache local;
+    // 공유 캐시를 쓰지 않으면 null
+    private final Cache shared;
+    // (캐시 이름, 키) 를 다른 노드에 알린다.
+    private final BiConsumer<String, Object> invalidationPublisher;
+
+    private final Counter localHits;
+    private final Counter sharedHits;
+    private final Counter misses;
+
+    public TwoLevelCache(String name, Cache local, Cache shared,
+                         BiConsumer<String, Object> invalidationPublisher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.shared = shared;
+        this.invalidationPublisher = invalidationPublisher;
+
+        this.localHits = tierCounter(meterRegistry, "local");
+        this.sharedHits = tierCounter(meterRegistry, "shared");
+        this.misses = tierCounter(meterRegistry, "miss");
+    }
+
+    private Counter tierCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.tier.gets")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        if (shared != null) {
+            value = getShared(key);
+            if (value != null) {
+                sharedHits.increment();
+                local.put(key, value.get());
+                return value;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object cached = value.get();
+        if (cached != null && type != null && !type.isInstance(cached)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + cached);
+        }
+        return (T) cached;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        if (shared != null) {
+            try {
+                shared.put(key, value);
+            } catch (RuntimeException e) {
+                // 공유 캐시에 못 넣어도 다음 조회가 DB 로 가는 것뿐이다.
+                log.warn("Failed to write {} to shared cache {}", key, name, e);
+            }
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        if (shared != null) {
+            try {
+                shared.evict(key);
+            } catch (RuntimeException e) {
+                log.warn("Failed to evict {} from shared cache {}", key, name, e);
+            }
+        }
+        publishInvalidation(key);
+    }
+
+    /**
+     * 다른 노드에서 온 무효화 메시지를 처리한다. 공유 캐시는 보낸 쪽이 이미 지웠다.
+     */
+    public void evictLocal(Object key) {
+        local.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        if (shared != null) {
+            shared.clear();
+        }
+    }
+
+    private ValueWrapper getShared(Object key) {
+        try {
+            return shared.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read {} from shared cache {}", key, name, e);
+            return null;
+        }
+    }
+
+    private void publishInvalidation(Object key) {
+        try {
+            invalidationPublisher.accept(name, key);
+        } catch (RuntimeException e) {
+            // 다른 노드의 로컬 캐시는 만료 시간이 지나면 정리된다.
+            log.warn("Failed to publish invalidation of {} in cache {}", key, name, e);
+        }
+    }
+}
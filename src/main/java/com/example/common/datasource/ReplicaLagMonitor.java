@@ -0,0 +1,122 @@
+package com.example.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적으로 레플리카의 복제 지연을 확인해, 허용치를 넘거나 연결할 수 없으면 읽기를 primary 로 돌린다.
+ */
+@Slf4j(topic = "Replica_Lag_Monitor")
+public class ReplicaLagMonitor implements DisposableBean {
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    // 복제 설정이 없는 단독 인스턴스(로컬 테스트용 두 번째 DB)도 레플리카로 쓸지 여부
+    private final boolean allowStandalone;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean replicaUsable;
+    // 마지막으로 확인한 지연(초). 알 수 없으면 -1
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds, boolean allowStandalone, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+        this.allowStandalone = allowStandalone;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public void start(Duration interval) {
+        check();
+        scheduler.scheduleWithFixedDelay(this::check, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * 레플리카 연결이 실패하면 다음 확인 때까지 primary 만 사용한다.
+     */
+    public void markUnavailable(SQLException cause) {
+        if (replicaUsable) {
+            log.warn("Replica connection failed, routing reads to primary", cause);
+        }
+        replicaUsable = false;
+    }
+
+    void check() {
+        boolean usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            Long lag = readLag(statement);
+            if (lag == null) {
+                lagSeconds = allowStandalone ? 0 : -1;
+                usable = allowStandalone;
+            } else {
+                lagSeconds = lag;
+                usable = lag <= maxLagSeconds;
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Replica lag check failed", e);
+            lagSeconds = -1;
+            usable = false;
+        }
+
+        if (usable != replicaUsable) {
+            log.info("Replica {} (lag {} s, max {} s)", usable ? "enabled for reads" : "disabled, reads go to primary",
+                    lagSeconds, maxLagSeconds);
+        }
+        replicaUsable = usable;
+    }
+
+    /**
+     * 복제 지연(초). 복제가 설정되지 않은 인스턴스면 null, 복제가 멈췄으면 Long.MAX_VALUE.
+     */
+    private static Long readLag(Statement statement) throws SQLException {
+        try {
+            // MySQL 8.0.22 이상
+            return readLag(statement, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+        } catch (SQLException e) {
+            return readLag(statement, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        }
+    }
+
+    private static Long readLag(Statement statement, String query, String column) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(query)) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            long lag = resultSet.getLong(column);
+            // SQL_THREAD/IO_THREAD 가 멈추면 NULL
+            return resultSet.wasNull() ? Long.MAX_VALUE : lag;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
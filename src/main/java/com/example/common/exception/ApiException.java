@@ -2,10 +2,16 @@ package com.example.common.exception;
 
 import com.example.common.BaseCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
+/**
+ * 잘못된 비밀번호, 만료된 토큰처럼 예상된 실패. 공격 트래픽에서 대량으로 던져지므로 스택 트레이스를 만들지 않는다.
+ */
 @Getter
-@RequiredArgsConstructor
 public class ApiException extends RuntimeException {
     private final BaseCode errorCode;
+
+    public ApiException(BaseCode errorCode) {
+        super(null, null, false, false);
+        this.errorCode = errorCode;
+    }
 }
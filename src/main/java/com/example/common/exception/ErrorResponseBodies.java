@@ -0,0 +1,79 @@
+package com.example.common.exception;
+
+import com.example.common.ApiResponse;
+import com.example.common.BaseCode;
+import com.example.common.ErrorStatus;
+import com.example.common.ExceptionCause;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorStatus 별 에러 응답 본문을 기동 시 미리 직렬화해 둔다.
+ * 본문 중 요청마다 달라지는 것은 마지막 timestamp 뿐이므로, 그 앞까지의 바이트를 보관하고 응답할 때 시각만 이어 붙인다.
+ * 애플리케이션 ObjectMapper 로 ApiResponse 를 직렬화한 결과에서 잘라내므로 필드 순서와 형식은 일반 응답과 같다.
+ */
+@Component
+public class ErrorResponseBodies {
+
+    private static final String TIMESTAMP_FIELD = "\"timestamp\":\"";
+    private static final String SUFFIX = "\"}";
+
+    // Jackson JavaTimeModule 의 LocalDateTime 기본 형식
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final Map<ErrorStatus, byte[]> prefixes = new EnumMap<>(ErrorStatus.class);
+
+    public ErrorResponseBodies(ObjectMapper objectMapper) {
+        for (ErrorStatus status : ErrorStatus.values()) {
+            byte[] prefix = prefix(objectMapper, status.getCauseHttpStatus());
+            if (prefix != null) {
+                prefixes.put(status, prefix);
+            }
+        }
+    }
+
+    /**
+     * 미리 직렬화한 본문에 현재 시각을 붙여 돌려준다. 준비된 본문이 없으면 null.
+     */
+    public byte[] body(BaseCode errorCode) {
+        if (!(errorCode instanceof ErrorStatus status)) {
+            return null;
+        }
+        byte[] prefix = prefixes.get(status);
+        if (prefix == null) {
+            return null;
+        }
+        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT) + SUFFIX;
+        byte[] body = new byte[prefix.length + timestamp.length()];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        // 날짜 형식은 ASCII 뿐이라 문자 하나가 바이트 하나다.
+        for (int i = 0; i < timestamp.length(); i++) {
+            body[prefix.length + i] = (byte) timestamp.charAt(i);
+        }
+        return body;
+    }
+
+    // 본문 상태 코드는 GlobalExceptionHandler 가 만들던 것과 같이 HTTP 상태 값을 쓴다.
+    // timestamp 가 마지막 문자열 필드가 아니면(직렬화 설정이 다르면) 미리 만들지 않고 일반 경로로 응답한다.
+    private static byte[] prefix(ObjectMapper objectMapper, ExceptionCause cause) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(
+                    ApiResponse.createError(cause.getHttpStatus().value(), cause.getMessage()));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+        int timestamp = json.lastIndexOf(TIMESTAMP_FIELD);
+        if (timestamp < 0 || !json.endsWith(SUFFIX)) {
+            return null;
+        }
+        return json.substring(0, timestamp + TIMESTAMP_FIELD.length()).getBytes(StandardCharsets.UTF_8);
+    }
+}
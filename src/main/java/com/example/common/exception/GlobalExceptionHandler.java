@@ -5,8 +5,11 @@ import com.example.common.ErrorStatus;
 import com.example.common.ExceptionCause;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -18,14 +21,38 @@ import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    // 스프링이 구성한 공용 ObjectMapper
+    private final ObjectMapper objectMapper;
+    private final ErrorResponseBodies errorResponseBodies;
+
+    // 미리 직렬화한 본문이 있으면 그대로 쓰고, 없으면 ApiResponse 를 직렬화한다.
     @ExceptionHandler(ApiException.class)
-    public ResponseEntity<ApiResponse<String>> handleApiException(ApiException ex) {
+    public ResponseEntity<?> handleApiException(ApiException ex) {
         ExceptionCause status = ex.getErrorCode().getCauseHttpStatus();
+        byte[] body = errorResponseBodies.body(ex.getErrorCode());
+        if (body != null) {
+            return ResponseEntity.status(status.getHttpStatus())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
         return getErrorResponse(status.getHttpStatus(), status.getMessage());
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<?> handleRateLimitExceededException(RateLimitExceededException ex) {
+        ExceptionCause status = ex.getErrorCode().getCauseHttpStatus();
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        byte[] body = errorResponseBodies.body(ex.getErrorCode());
+        if (body != null) {
+            return response.contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+        return response.body(ApiResponse.createError(status.getStatusCode(), status.getMessage()));
+    }
+
     @ExceptionHandler(SQLException.class)
     public ResponseEntity<ApiResponse<String>> handleSQLException(SQLException ex) {
         log.error(ex.getMessage());
@@ -40,7 +67,7 @@ public class GlobalExceptionHandler {
                     error -> errorMap.put(error.getField(), error.getDefaultMessage())
                 );
 
-        String errorMessage = new ObjectMapper().writeValueAsString(errorMap);
+        String errorMessage = objectMapper.writeValueAsString(errorMap);
 
         return getErrorResponse(HttpStatus.BAD_REQUEST, errorMessage);
     }
@@ -0,0 +1,18 @@
+package com.example.common.exception;
+
+import com.example.common.ErrorStatus;
+import lombok.Getter;
+
+/**
+ * 요청 한도 초과. 429 와 Retry-After 헤더로 응답한다.
+ */
+@Getter
+public class RateLimitExceededException extends ApiException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(ErrorStatus.TOO_MANY_LOGIN_ATTEMPTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
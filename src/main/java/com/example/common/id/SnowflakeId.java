@@ -0,0 +1,18 @@
+package com.example.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 ID 를 만드는 식별자 생성 전략.
+ * IDENTITY 와 달리 insert 전에 ID 가 정해지므로 Hibernate 가 JDBC insert 를 배치로 묶을 수 있다.
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
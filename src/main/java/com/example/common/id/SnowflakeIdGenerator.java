@@ -0,0 +1,94 @@
+package com.example.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식 64비트 ID 생성기: 41비트 밀리초(2024-01-01 기준) + 10비트 노드 + 12비트 시퀀스.
+ *
+ * 노드당 밀리초마다 4096개까지 DB 왕복 없이 만들 수 있고, 기존 AUTO_INCREMENT 값보다 항상 크다.
+ * 노드 번호가 겹치면 인스턴스끼리 같은 ID 를 만들므로 spring.jpa.properties.app.id.node-id 를 인스턴스마다 다르게 설정해야 한다.
+ * 설정하지 않으면 기동에 실패한다. 인스턴스를 하나만 띄운다면 app.id.single-instance=true 로 명시하고 0번을 쓴다.
+ */
+@Slf4j(topic = "Snowflake_Id")
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "app.id.node-id";
+    public static final String SINGLE_INSTANCE_SETTING = "app.id.single-instance";
+
+    // 2024-01-01T00:00:00Z
+    static final long EPOCH = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+
+    // (epoch 기준 밀리초 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        this(resolveNodeId(context.getServiceRegistry().requireService(ConfigurationService.class).getSettings()));
+    }
+
+    SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(NODE_ID_SETTING + " must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    long nextId() {
+        while (true) {
+            long now = System.currentTimeMillis() - EPOCH;
+            long previous = state.get();
+            long previousMillis = previous >>> SEQUENCE_BITS;
+
+            long next;
+            if (now > previousMillis) {
+                next = now << SEQUENCE_BITS;
+            } else if ((previous & MAX_SEQUENCE) < MAX_SEQUENCE) {
+                // 같은 밀리초이거나 시계가 뒤로 간 경우 마지막 시각을 이어서 쓴다.
+                next = previous + 1;
+            } else {
+                // 시퀀스를 다 쓰면 기다리지 않고 다음 밀리초를 앞당겨 쓴다.
+                next = (previousMillis + 1) << SEQUENCE_BITS;
+            }
+
+            if (state.compareAndSet(previous, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                        | (nodeId << SEQUENCE_BITS)
+                        | (next & MAX_SEQUENCE);
+            }
+        }
+    }
+
+    static long resolveNodeId(Map<String, Object> settings) {
+        Object configured = settings.get(NODE_ID_SETTING);
+        if (configured != null && !configured.toString().isBlank()) {
+            return Long.parseLong(configured.toString().trim());
+        }
+        // 호스트 이름 등에서 유도한 번호는 인스턴스끼리 겹칠 수 있어 쓰지 않는다.
+        Object singleInstance = settings.get(SINGLE_INSTANCE_SETTING);
+        if (singleInstance != null && Boolean.parseBoolean(singleInstance.toString().trim())) {
+            log.info("{} is not set, using node id 0 for a single instance", NODE_ID_SETTING);
+            return 0;
+        }
+        throw new IllegalStateException(NODE_ID_SETTING + " must be set to a node id unique to this instance (0-"
+                + MAX_NODE_ID + "), or " + SINGLE_INSTANCE_SETTING + "=true when only one instance runs");
+    }
+}
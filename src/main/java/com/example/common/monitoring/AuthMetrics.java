@@ -0,0 +1,115 @@
+package com.example.common.monitoring;
+
+import com.example.common.exception.ApiException;
+import com.example.common.monitoring.jfr.AuthFlowEvent;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 로그인/재발급/가입 흐름의 단계별 지연 시간.
+ * auth.stage{stage, outcome} 타이머 하나로 기록하며 percentile histogram 을 함께 내보낸다.
+ * 요청 전체 지연은 http.server.requests 로 본다.
+ */
+@Component
+public class AuthMetrics {
+
+    public static final String STAGE_TIMER = "auth.stage";
+
+    public static final String SUCCESS = "success";
+    public static final String BAD_CREDENTIALS = "bad_credentials";
+    public static final String CACHE_HIT = "cache_hit";
+    public static final String EXPIRED = "expired";
+    public static final String INVALID = "invalid";
+    public static final String REVOKED = "revoked";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    // 태그 조합마다 Timer 를 한 번만 만든다.
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public enum Stage {
+        USER_LOOKUP,
+        DUPLICATE_CHECK,
+        PASSWORD_VERIFY,
+        PASSWORD_ENCODE,
+        TOKEN_MINT,
+        TOKEN_VERIFY,
+        REDIS_SAVE,
+        REDIS_ROTATE,
+        USER_INSERT;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    public <T> T record(Stage stage, Supplier<T> work) {
+        return record(stage, work, result -> SUCCESS);
+    }
+
+    /**
+     * 결과값으로 outcome 을 정하는 경우 (예: matches 가 false 면 bad_credentials).
+     */
+    public <T> T record(Stage stage, Supplier<T> work, Function<T, String> outcomeOfResult) {
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = work.get();
+            outcome = outcomeOfResult.apply(result);
+            return result;
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            record(stage, outcome, System.nanoTime() - start);
+        }
+    }
+
+    public void record(Stage stage, Runnable work) {
+        record(stage, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public void record(Stage stage, String outcome, long elapsedNanos) {
+        timer(stage, outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        // 진행 중인 JFR 이벤트가 있으면 단계 시간을 함께 남긴다.
+        AuthFlowEvent.recordStage(stage, elapsedNanos);
+    }
+
+    public static String outcomeOf(Throwable e) {
+        if (e instanceof ApiException apiException && apiException.getErrorCode() instanceof Enum<?> code) {
+            return code.name().toLowerCase(Locale.ROOT);
+        }
+        if (e instanceof ExpiredJwtException) {
+            return EXPIRED;
+        }
+        if (e instanceof JwtException || e instanceof IllegalArgumentException) {
+            return INVALID;
+        }
+        return ERROR;
+    }
+
+    private Timer timer(Stage stage, String outcome) {
+        return timers.computeIfAbsent(stage.tag + ':' + outcome, key -> Timer.builder(STAGE_TIMER)
+                .description("Latency of a single auth pipeline stage")
+                .tag("stage", stage.tag)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.common.monitoring.jfr;
+
+import com.example.common.ErrorStatus;
+import com.example.common.exception.ApiException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 기동 시 JFR 연속 레코딩을 시작한다. JDK 기본 설정(default.jfc, 오버헤드 1% 내외)에 인증 이벤트를 더해
+ * 느린 로그인이 어느 단계에서 느렸는지를 같은 시점의 GC, 락 이벤트와 함께 볼 수 있다.
+ * 디스크에 max-age/max-size 만큼만 유지하며 dump 로 필요할 때 파일을 떠낸다.
+ * 떠낸 파일은 dump-dir 에 최근 max-dumps 개만 남긴다.
+ */
+@Slf4j(topic = "Flight_Recorder")
+@Component
+@ConditionalOnProperty(name = "monitoring.jfr.enabled", havingValue = "true")
+public class AuthFlightRecorder {
+
+    private static final String RECORDING_NAME = "auth-continuous";
+
+    private static final String DUMP_PREFIX = "auth-";
+    private static final String DUMP_SUFFIX = ".jfr";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Value("${monitoring.jfr.settings:default}")
+    private String settings;
+
+    @Value("${monitoring.jfr.max-age:6h}")
+    private Duration maxAge;
+
+    @Value("${monitoring.jfr.max-size:250MB}")
+    private DataSize maxSize;
+
+    @Value("${monitoring.jfr.dump-dir:${java.io.tmpdir}/auth-jfr}")
+    private Path dumpDir;
+
+    @Value("${monitoring.jfr.max-dumps:10}")
+    private int maxDumps;
+
+    @Value("${monitoring.jfr.thresholds.login:500ms}")
+    private Duration loginThreshold;
+
+    @Value("${monitoring.jfr.thresholds.reissue:50ms}")
+    private Duration reissueThreshold;
+
+    @Value("${monitoring.jfr.thresholds.signup:500ms}")
+    private Duration signupThreshold;
+
+    @Value("${monitoring.jfr.thresholds.token-verification:10ms}")
+    private Duration tokenVerificationThreshold;
+
+    private Recording recording;
+
+    @PostConstruct
+    void start() throws IOException, ParseException {
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("monitoring.jfr.enabled is set but Flight Recorder is not available in this JVM");
+            return;
+        }
+        recording = new Recording(Configuration.getConfiguration(settings));
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.enable(LoginEvent.class).withThreshold(loginThreshold);
+        recording.enable(ReissueEvent.class).withThreshold(reissueThreshold);
+        recording.enable(SignupEvent.class).withThreshold(signupThreshold);
+        recording.enable(TokenVerificationEvent.class).withThreshold(tokenVerificationThreshold);
+        recording.start();
+        log.info("Continuous flight recording started (settings {}, max age {}, max size {})", settings, maxAge, maxSize);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    /**
+     * 지금까지 디스크에 남아 있는 레코딩을 dump-dir 에 파일로 쓴다. 레코딩은 계속 진행된다.
+     */
+    public Path dump() throws IOException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new ApiException(ErrorStatus.FLIGHT_RECORDING_UNAVAILABLE);
+        }
+        Files.createDirectories(dumpDir);
+        Path file = dumpDir.resolve(DUMP_PREFIX + LocalDateTime.now().format(FILE_TIMESTAMP) + DUMP_SUFFIX);
+        recording.dump(file);
+        log.info("Dumped flight recording to {}", file);
+        pruneDumps(dumpDir, maxDumps);
+        return file;
+    }
+
+    /**
+     * 파일 이름의 시각 기준으로 최근 keep 개만 남기고 이전 덤프를 지운다. 방금 쓴 파일은 항상 남는다.
+     */
+    static void pruneDumps(Path dir, int keep) throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(dir)) {
+            dumps = files.filter(AuthFlightRecorder::isDump)
+                    .sorted(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed())
+                    .toList();
+        }
+        for (Path old : dumps.subList(Math.min(Math.max(keep, 1), dumps.size()), dumps.size())) {
+            try {
+                Files.deleteIfExists(old);
+            } catch (IOException e) {
+                log.warn("Failed to delete old flight recording {}", old, e);
+            }
+        }
+    }
+
+    private static boolean isDump(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(DUMP_PREFIX) && name.endsWith(DUMP_SUFFIX) && Files.isRegularFile(path);
+    }
+}
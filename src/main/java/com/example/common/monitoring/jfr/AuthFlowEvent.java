@@ -0,0 +1,122 @@
+package com.example.common.monitoring.jfr;
+
+import com.example.common.monitoring.AuthMetrics;
+import com.example.common.monitoring.AuthMetrics.Stage;
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 로그인/재발급/가입 한 번을 나타내는 JFR 이벤트의 공통 부분.
+ * 진행 중인 이벤트를 스레드에 걸어 두고, AuthMetrics 가 기록하는 단계별 시간을 같은 이벤트에 모은다.
+ * 각 이벤트의 @Threshold 보다 짧게 끝난 요청은 기록되지 않는다.
+ * reactive 프로파일처럼 흐름이 여러 스레드를 오가면 traceReactive 로 이벤트를 넘겨 주고,
+ * 각 단계를 within 으로 감싸 그 동안만 스레드에 건다.
+ */
+@Category({"Onboarding", "Auth"})
+@StackTrace(false)
+public abstract class AuthFlowEvent extends Event {
+
+    private static final ThreadLocal<AuthFlowEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Outcome")
+    String outcome;
+
+    abstract void addStage(Stage stage, long elapsedNanos);
+
+    /**
+     * flow 를 실행하는 동안 event 를 현재 스레드의 진행 중인 이벤트로 둔다.
+     * 이벤트를 받는 레코딩이 없으면 아무것도 하지 않고 flow 만 실행한다.
+     */
+    public static <T> T trace(AuthFlowEvent event, Supplier<T> flow) {
+        if (!event.isEnabled()) {
+            return flow.get();
+        }
+        AuthFlowEvent previous = CURRENT.get();
+        CURRENT.set(event);
+        event.begin();
+        try {
+            T result = flow.get();
+            event.outcome = AuthMetrics.SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            event.outcome = AuthMetrics.outcomeOf(e);
+            throw e;
+        } finally {
+            event.commit();
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * trace 의 Mono 버전. 구독할 때 이벤트를 시작하고 끝나면(성공, 실패, 취소) 기록한다.
+     * flow 는 이벤트를 받으며, 이벤트를 받는 레코딩이 없으면 null 을 받는다.
+     */
+    public static <T, E extends AuthFlowEvent> Mono<T> traceReactive(Supplier<E> eventFactory,
+                                                                     Function<AuthFlowEvent, Mono<T>> flow) {
+        return Mono.defer(() -> {
+            E event = eventFactory.get();
+            if (!event.isEnabled()) {
+                return flow.apply(null);
+            }
+            event.begin();
+            return flow.apply(event)
+                    .doOnSuccess(result -> event.outcome = AuthMetrics.SUCCESS)
+                    .doOnError(e -> event.outcome = AuthMetrics.outcomeOf(e))
+                    .doFinally(signal -> event.commit());
+        });
+    }
+
+    /**
+     * work 를 실행하는 동안만 event 를 현재 스레드의 진행 중인 이벤트로 둔다. event 가 null 이면 work 만 실행한다.
+     */
+    public static <T> T within(AuthFlowEvent event, Supplier<T> work) {
+        if (event == null) {
+            return work.get();
+        }
+        AuthFlowEvent previous = CURRENT.get();
+        CURRENT.set(event);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void within(AuthFlowEvent event, Runnable work) {
+        within(event, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public static void recordStage(Stage stage, long elapsedNanos) {
+        AuthFlowEvent event = CURRENT.get();
+        if (event != null) {
+            event.addStage(stage, elapsedNanos);
+        }
+    }
+
+    public static void recordUserId(Long userId) {
+        AuthFlowEvent event = CURRENT.get();
+        if (event != null && userId != null) {
+            event.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.common.monitoring.jfr;
+
+import com.example.common.monitoring.AuthMetrics.Stage;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+@Name("com.example.auth.Login")
+@Label("Login")
+@Description("LoginService.login(또는 ReactiveLoginService.login) 한 번과 단계별 소요 시간")
+@Threshold("500 ms") // BCrypt 목표 시간(250ms)의 두 배
+public class LoginEvent extends AuthFlowEvent {
+
+    @Label("User Lookup")
+    @Timespan
+    long userLookup;
+
+    @Label("Password Verify")
+    @Timespan
+    long passwordVerify;
+
+    @Label("Token Mint")
+    @Timespan
+    long tokenMint;
+
+    @Label("Redis Save")
+    @Timespan
+    long redisSave;
+
+    @Override
+    void addStage(Stage stage, long elapsedNanos) {
+        switch (stage) {
+            case USER_LOOKUP -> userLookup += elapsedNanos;
+            case PASSWORD_VERIFY -> passwordVerify += elapsedNanos;
+            case TOKEN_MINT -> tokenMint += elapsedNanos;
+            case REDIS_SAVE -> redisSave += elapsedNanos;
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.common.monitoring.jfr;
+
+import com.example.common.monitoring.AuthMetrics.Stage;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+@Name("com.example.auth.Reissue")
+@Label("Reissue")
+@Description("LoginService.reissue(또는 ReactiveLoginService.reissue) 한 번과 단계별 소요 시간")
+@Threshold("50 ms")
+public class ReissueEvent extends AuthFlowEvent {
+
+    @Label("Token Verify")
+    @Timespan
+    long tokenVerify;
+
+    @Label("User Lookup")
+    @Timespan
+    long userLookup;
+
+    @Label("Token Mint")
+    @Timespan
+    long tokenMint;
+
+    @Label("Redis Rotate")
+    @Timespan
+    long redisRotate;
+
+    @Override
+    void addStage(Stage stage, long elapsedNanos) {
+        switch (stage) {
+            case TOKEN_VERIFY -> tokenVerify += elapsedNanos;
+            case USER_LOOKUP -> userLookup += elapsedNanos;
+            case TOKEN_MINT -> tokenMint += elapsedNanos;
+            case REDIS_ROTATE -> redisRotate += elapsedNanos;
+            default -> {
+            }
+        }
+    }
+}
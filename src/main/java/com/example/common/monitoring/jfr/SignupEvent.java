@@ -0,0 +1,38 @@
+package com.example.common.monitoring.jfr;
+
+import com.example.common.monitoring.AuthMetrics.Stage;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+@Name("com.example.auth.Signup")
+@Label("Signup")
+@Description("SignupService.signup 한 번과 단계별 소요 시간 (트랜잭션 커밋 제외)")
+@Threshold("500 ms")
+public class SignupEvent extends AuthFlowEvent {
+
+    @Label("Duplicate Check")
+    @Timespan
+    long duplicateCheck;
+
+    @Label("Password Encode")
+    @Timespan
+    long passwordEncode;
+
+    @Label("User Insert")
+    @Timespan
+    long userInsert;
+
+    @Override
+    void addStage(Stage stage, long elapsedNanos) {
+        switch (stage) {
+            case DUPLICATE_CHECK -> duplicateCheck += elapsedNanos;
+            case PASSWORD_ENCODE -> passwordEncode += elapsedNanos;
+            case USER_INSERT -> userInsert += elapsedNanos;
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.common.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("com.example.auth.TokenVerification")
+@Label("Token Verification")
+@Description("JwtSecurityFilter 의 액세스 토큰 검증")
+@Category({"Onboarding", "Auth"})
+@StackTrace(false)
+@Threshold("10 ms")
+public class TokenVerificationEvent extends Event {
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,171 @@
+package com.example.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클러스터 전체의 키별 요청 수를 Redis 의 고정 윈도 카운터 두 개(현재/이전)로 근사하는 슬라이딩 윈도.
+ * 요청 경로에서는 Redis 를 부르지 않는다. 로컬에서 센 증가분을 주기적으로 한 번의 파이프라인으로 보내고,
+ * 돌려받은 클러스터 합계를 다음 동기화 전까지 판단에 쓴다. 그래서 동기화 주기만큼은 한도를 넘을 수 있다.
+ * Redis 가 응답하지 않으면 로컬에서 센 값만으로 판단한다.
+ */
+@Slf4j(topic = "Rate_Limit")
+public class SlidingWindowCounter implements DisposableBean {
+
+    // 파이프라인 안에서는 NOSCRIPT 후 재시도가 안 되므로 EVALSHA 대신 스크립트 본문을 보낸다.
+    private static final byte[] SYNC_SCRIPT = RedisScript.of(new ClassPathResource("scripts/sliding_window_sync.lua"))
+            .getScriptAsString().getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String prefix;
+    private final long windowMillis;
+
+    // 아직 Redis 에 보내지 않은 증가분
+    private final Map<String, AtomicLong> pending = new ConcurrentHashMap<>();
+    // 마지막 동기화로 받은 클러스터 합계
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-limit-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SlidingWindowCounter(StringRedisTemplate redisTemplate, String prefix, Duration window) {
+        this.redisTemplate = redisTemplate;
+        this.prefix = prefix;
+        this.windowMillis = window.toMillis();
+    }
+
+    public void start(Duration syncInterval) {
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, syncInterval.toMillis(), syncInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 한도 안이면 요청을 세고 0 을, 넘었으면 현재 윈도가 끝날 때까지 남은 ms 를 돌려준다.
+     */
+    public long tryAcquire(String key, long limit, long nowMillis) {
+        if (estimate(key, nowMillis) >= limit) {
+            return windowMillis - nowMillis % windowMillis;
+        }
+        pending.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        return 0;
+    }
+
+    // 이전 윈도 합계를 현재 윈도에서 지난 비율만큼 덜어 내고 현재 윈도 합계를 더한다.
+    long estimate(String key, long nowMillis) {
+        long window = nowMillis / windowMillis;
+        long current = 0;
+        long previous = 0;
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null) {
+            if (snapshot.window() == window) {
+                current = snapshot.current();
+                previous = snapshot.previous();
+            } else if (snapshot.window() == window - 1) {
+                previous = snapshot.current();
+            }
+        }
+        AtomicLong unsent = pending.get(key);
+        if (unsent != null) {
+            current += unsent.get();
+        }
+        double elapsed = (double) (nowMillis % windowMillis) / windowMillis;
+        return (long) (previous * (1 - elapsed)) + current;
+    }
+
+    void sync(long nowMillis) {
+        long window = nowMillis / windowMillis;
+        // 이 노드에 두 윈도 넘게 요청이 없던 키는 더 이상 따라가지 않는다.
+        snapshots.values().removeIf(snapshot -> snapshot.lastActiveWindow() < window - 1);
+
+        List<String> keys = new ArrayList<>(pending.keySet());
+        for (String key : snapshots.keySet()) {
+            if (!pending.containsKey(key)) {
+                keys.add(key);
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        long[] deltas = new long[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            AtomicLong counter = pending.get(keys.get(i));
+            if (counter != null) {
+                deltas[i] = counter.getAndSet(0);
+                if (deltas[i] == 0) {
+                    pending.remove(keys.get(i), counter);
+                }
+            }
+        }
+
+        String ttlMillis = String.valueOf(windowMillis * 2);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < keys.size(); i++) {
+                eval(connection, redisKey(keys.get(i), window), redisKey(keys.get(i), window - 1),
+                        String.valueOf(deltas[i]), ttlMillis);
+            }
+            return null;
+        });
+        for (int i = 0; i < keys.size(); i++) {
+            if (results.get(i) instanceof List<?> counts && counts.size() == 2) {
+                Snapshot previous = snapshots.get(keys.get(i));
+                long lastActiveWindow = deltas[i] > 0 || previous == null ? window : previous.lastActiveWindow();
+                snapshots.put(keys.get(i), new Snapshot(window, toLong(counts.get(0)), toLong(counts.get(1)), lastActiveWindow));
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+
+    private void syncQuietly() {
+        try {
+            sync(System.currentTimeMillis());
+        } catch (Exception e) {
+            // 보내지 못한 증가분은 버린다. 그동안은 노드별 토큰 버킷이 1차 방어선이다.
+            log.warn("Failed to sync rate limit counters with Redis: {}", e.getMessage());
+        }
+    }
+
+    private static void eval(RedisConnection connection, String currentKey, String previousKey, String delta, String ttlMillis) {
+        connection.scriptingCommands().eval(SYNC_SCRIPT, ReturnType.MULTI, 2,
+                bytes(currentKey), bytes(previousKey), bytes(delta), bytes(ttlMillis));
+    }
+
+    // 같은 키의 윈도들이 같은 슬롯에 오도록 해시 태그를 쓴다.
+    private String redisKey(String key, long window) {
+        return prefix + "{" + key + "}:" + window;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+    private record Snapshot(long window, long current, long previous, long lastActiveWindow) {
+    }
+}
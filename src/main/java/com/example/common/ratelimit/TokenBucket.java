@@ -0,0 +1,46 @@
+package com.example.common.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷.
+ * 남은 토큰 수 대신 "버킷이 가득 차는 이론상 시각" 하나만 AtomicLong 으로 두고 CAS 로 갱신한다. (GCRA)
+ * 토큰 하나를 쓰면 그 시각이 refillInterval 만큼 뒤로 밀리고, 현재보다 (capacity - 1) x refillInterval 이상
+ * 앞서 있으면 버킷이 빈 것이다.
+ */
+public final class TokenBucket {
+
+    private final long refillIntervalNanos;
+    private final long burstToleranceNanos;
+
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(int capacity, Duration refillInterval, long nowNanos) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.refillIntervalNanos = refillInterval.toNanos();
+        this.burstToleranceNanos = (capacity - 1) * refillIntervalNanos;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 쓴다.
+     *
+     * @return 성공하면 0, 버킷이 비었으면 다음 토큰이 생길 때까지 남은 나노초
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long waitNanos = base - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, base + refillIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.common.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 6 의 서버 지원 클라이언트 캐싱(RESP3 CLIENT TRACKING)을 이용한 로컬 near-cache.
+ *
+ * 지금은 RefreshTokenStore 의 부정(negative) 캐시로만 쓴다. 재발급이 MISSING 으로 끝난 세션 해시를 담아 두어,
+ * 이미 로그아웃했거나 밀려난 기기의 토큰이 반복해서 오면 Redis 까지 가지 않고 거절한다.
+ * 정상 사용자의 재발급은 매번 Redis 스크립트를 실행하므로 이 캐시로 빨라지지 않는다.
+ *
+ * 전용 연결로 읽은 키만 캐싱하며, 다른 노드가 키를 바꾸거나 키가 만료되면 서버가 보내는
+ * invalidate push 메시지로 즉시 지운다. 연결이 끊기면 그동안의 무효화를 받을 수 없으므로
+ * 캐시를 비우고, 재연결 후 추적을 다시 켤 때까지 캐시를 사용하지 않는다.
+ */
+@Slf4j(topic = "Redis_Near_Cache")
+@Component
+@ConditionalOnProperty(name = "redis.near-cache.enabled", havingValue = "true")
+public class RedisNearCache implements DisposableBean {
+
+    private static final String INVALIDATE = "invalidate";
+
+    // CLIENT LIST 에서 추적 연결을 구분하기 위한 이름
+    static final String CLIENT_NAME = "auth-near-cache";
+
+    // 키 -> CachedHash 또는 읽는 중임을 나타내는 Pending
+    private final Map<String, Object> entries = new ConcurrentHashMap<>();
+
+    private final String redisHost;
+    private final int redisPort;
+    private final int maxSize;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    private RedisClient client;
+    private StatefulRedisConnection<String, byte[]> connection;
+
+    // 추적이 켜져 있고 무효화 메시지를 받을 수 있는 상태인지
+    private volatile boolean available;
+
+    public RedisNearCache(@Value("${spring.data.redis.host}") String redisHost,
+                          @Value("${spring.data.redis.port}") int redisPort,
+                          @Value("${redis.near-cache.max-size:10000}") int maxSize,
+                          MeterRegistry meterRegistry) {
+        this.redisHost = redisHost;
+        this.redisPort = redisPort;
+        this.maxSize = maxSize;
+
+        this.hits = Counter.builder("redis.near.cache.hits").register(meterRegistry);
+        this.misses = Counter.builder("redis.near.cache.misses").register(meterRegistry);
+        this.invalidations = Counter.builder("redis.near.cache.invalidations").register(meterRegistry);
+        Gauge.builder("redis.near.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        client = RedisClient.create(RedisURI.Builder.redis(redisHost, redisPort).withClientName(CLIENT_NAME).build());
+        client.setOptions(ClientOptions.builder()
+                .protocolVersion(ProtocolVersion.RESP3)
+                .autoReconnect(true)
+                // 끊긴 동안 명령을 쌓아두지 않고 바로 실패시켜 원래 경로로 넘긴다.
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build());
+        client.addListener(new ConnectionStateListener());
+
+        try {
+            connection = client.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+            connection.addListener(this::onPush);
+            connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+            available = true;
+            log.info("Redis near-cache enabled (max {} keys)", maxSize);
+        } catch (Exception e) {
+            // near-cache 없이도 모든 요청은 Redis 로 바로 처리된다.
+            log.warn("Redis near-cache is disabled, could not enable client tracking", e);
+        }
+    }
+
+    /**
+     * 캐시에 있는 해시를 돌려준다. 캐시에 없거나 사용할 수 없는 상태면 null 이므로 Redis 에서 직접 읽어야 한다.
+     */
+    public CachedHash peekHash(String key) {
+        if (!available) {
+            return null;
+        }
+        if (entries.get(key) instanceof CachedHash cachedHash) {
+            hits.increment();
+            return cachedHash;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 추적 연결로 해시 키 전체를 비동기로 읽어 캐시에 채운다. 호출한 스레드는 기다리지 않는다.
+     * 추적은 키 단위이므로 필드 하나만 바뀌어도 해시 전체가 무효화된다.
+     * 읽는 동안 무효화가 도착하면 자리표시자가 지워지므로 오래된 값이 들어가지 않는다.
+     */
+    public void prefetchHash(String key) {
+        if (!available) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evictOne();
+        }
+        Pending pending = new Pending();
+        if (entries.putIfAbsent(key, pending) != null) {
+            return;
+        }
+        connection.async().hgetall(key).whenComplete((fields, e) -> {
+            // 타입이 다른 키(WRONGTYPE) 등 읽기에 실패하면 캐시하지 않는다.
+            if (e != null) {
+                entries.remove(key, pending);
+                return;
+            }
+            entries.replace(key, pending, new CachedHash(fields));
+        });
+    }
+
+    /**
+     * 이 노드가 방금 쓴 키를 지운다. 서버의 무효화 메시지보다 다음 읽기가 먼저 올 수 있기 때문이다.
+     * 읽는 중인 키면 자리표시자가 지워지므로 그 결과도 버려진다.
+     */
+    public void evict(String key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void onPush(PushMessage message) {
+        if (!INVALIDATE.equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        // 키 목록이 null 이면 FLUSHALL 등으로 전체가 무효화된 것
+        if (content.size() < 2 || !(content.get(1) instanceof List<?> keys)) {
+            invalidations.increment();
+            entries.clear();
+            return;
+        }
+        for (Object key : keys) {
+            invalidations.increment();
+            entries.remove(String.valueOf(key));
+        }
+    }
+
+    private void evictOne() {
+        Iterator<String> iterator = entries.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        available = false;
+        if (connection != null) {
+            connection.close();
+        }
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+
+    private final class ConnectionStateListener implements RedisConnectionStateListener {
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress socketAddress) {
+            // 최초 연결은 start() 에서 처리한다. 재연결이면 추적 상태가 사라졌으므로 다시 켠다.
+            if (connection == null || handler != connection) {
+                return;
+            }
+            entries.clear();
+            connection.async().clientTracking(TrackingArgs.Builder.enabled()).whenComplete((result, e) -> {
+                if (e != null) {
+                    log.warn("Could not re-enable client tracking, near-cache stays disabled", e);
+                    return;
+                }
+                entries.clear();
+                available = true;
+                log.info("Redis near-cache re-enabled after reconnect");
+            });
+        }
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+            if (handler != connection) {
+                return;
+            }
+            available = false;
+            entries.clear();
+            log.warn("Redis near-cache disabled, tracking connection lost");
+        }
+
+        @Override
+        public void onRedisExceptionCaught(RedisChannelHandler<?, ?> handler, Throwable cause) {
+        }
+    }
+
+    /**
+     * 캐시된 해시. 키가 없으면 fields 가 비어 있다.
+     */
+    public record CachedHash(Map<String, byte[]> fields) {
+
+        public byte[] get(String field) {
+            return fields.get(field);
+        }
+    }
+
+    // 읽는 중인 키의 자리표시자. 인스턴스마다 달라야 하므로 equals 를 재정의하지 않는다.
+    private static final class Pending {
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.config;
+
+import com.example.common.cache.TwoLevelCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 인증 흐름의 사용자 조회 캐시.
+ * 노드마다 Caffeine 로컬 캐시를 두고, cache.users.shared.enabled=true 면 Redis 를 공유 캐시로 함께 쓴다.
+ * 무효화는 Redis pub/sub 으로 모든 노드의 로컬 캐시에 전파한다.
+ */
+@Slf4j(topic = "Cache_Config")
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String USERS = "users";
+    public static final String USER_IDS = "userIds";
+
+    private static final ChannelTopic INVALIDATION_TOPIC = new ChannelTopic("cache:invalidation");
+    private static final char SEPARATOR = ':';
+
+    @Value("${cache.users.local.max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${cache.users.local.ttl:10m}")
+    private Duration localTtl;
+
+    @Value("${cache.users.shared.enabled:false}")
+    private boolean sharedEnabled;
+
+    @Value("${cache.users.shared.ttl:30m}")
+    private Duration sharedTtl;
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     MeterRegistry meterRegistry) {
+        RedisCacheManager sharedCacheManager = sharedEnabled ? sharedCacheManager(redisConnectionFactory) : null;
+
+        List<Cache> caches = List.of(USERS, USER_IDS).stream()
+                .map(name -> (Cache) new TwoLevelCache(
+                        name,
+                        localCache(name, meterRegistry),
+                        sharedCacheManager != null ? sharedCacheManager.getCache(name) : null,
+                        (cacheName, key) -> stringRedisTemplate.convertAndSend(
+                                INVALIDATION_TOPIC.getTopic(), cacheName + SEPARATOR + key),
+                        meterRegistry))
+                .toList();
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+
+    // 다른 노드가 보낸 "캐시이름:키" 메시지를 받아 로컬 캐시에서 지운다.
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            CacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            // StringRedisTemplate 이 UTF-8 로 보내므로 플랫폼 기본 인코딩과 무관하게 UTF-8 로 읽는다.
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(SEPARATOR);
+            if (separator < 0) {
+                return;
+            }
+            if (cacheManager.getCache(body.substring(0, separator)) instanceof TwoLevelCache cache) {
+                cache.evictLocal(body.substring(separator + 1));
+            }
+        }, INVALIDATION_TOPIC);
+        return container;
+    }
+
+    private CaffeineCache localCache(String name, MeterRegistry meterRegistry) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등 캐시별 적중률
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        return new CaffeineCache(name, cache, false);
+    }
+
+    private RedisCacheManager sharedCacheManager(RedisConnectionFactory redisConnectionFactory) {
+        RedisCacheManager cacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(sharedTtl)
+                        .disableCachingNullValues()
+                        .prefixCacheNameWith("cache:"))
+                .enableStatistics()
+                .build();
+        cacheManager.afterPropertiesSet();
+        log.info("Shared Redis tier enabled for user caches (ttl {})", sharedTtl);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기동 시 스키마 마이그레이션 방식.
+ * migrate: 밀린 마이그레이션을 적용 (로컬, 단일 노드)
+ * validate: 적용 이력과 스크립트가 일치하는지만 확인. 배포 전 마이그레이션을 따로 실행하는 환경에서 사용
+ * none: 아무것도 하지 않음 (DB 없이 컨텍스트만 띄우는 CDS 학습 실행 등)
+ */
+@Slf4j(topic = "Schema_Migration")
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(@Value("${schema.migration.on-startup:migrate}") String onStartup) {
+        return flyway -> {
+            switch (onStartup) {
+                case "migrate" -> flyway.migrate();
+                case "validate" -> flyway.validate();
+                case "none" -> log.info("Skipping schema migration on startup");
+                default -> throw new IllegalStateException("Unknown schema.migration.on-startup: " + onStartup);
+            }
+        };
+    }
+}
@@ -1,12 +1,19 @@
 package com.example.config;
 
+import com.example.security.TokenRevocationList;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -19,7 +26,7 @@ public class RedisConfig {
     private int redisPort;
 
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory() {
         // localhost:6379로 연결되는 기본 Redis 설정
         return new LettuceConnectionFactory(redisHost, redisPort);
     }
@@ -37,4 +44,38 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    // 리프레시 토큰 전용. 값은 RefreshTokenStore 가 만든 바이트(digest)를 그대로 저장한다.
+    // 사용자별 해시의 필드는 기기 ID 문자열이다.
+    @Bean
+    public RedisTemplate<String, byte[]> refreshTokenRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+        return redisTemplate;
+    }
+
+    // reactive 프로파일의 논블로킹 로그인/재발급용. 직렬화 방식은 refreshTokenRedisTemplate 과 같다.
+    @Bean
+    @Profile("reactive")
+    public ReactiveRedisTemplate<String, byte[]> reactiveRefreshTokenRedisTemplate(ReactiveRedisConnectionFactory reactiveRedisConnectionFactory) {
+        RedisSerializationContext<String, byte[]> serializationContext = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(new StringRedisSerializer())
+                .value(RedisSerializer.byteArray())
+                .build();
+        return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, serializationContext);
+    }
+
+    // 다른 노드가 무효화한 액세스 토큰 ID 를 받아 로컬 목록에 반영한다.
+    @Bean
+    public RedisMessageListenerContainer tokenRevocationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                          TokenRevocationList tokenRevocationList) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(tokenRevocationList, TokenRevocationList.TOPIC);
+        return container;
+    }
 }
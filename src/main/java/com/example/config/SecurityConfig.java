@@ -1,8 +1,15 @@
 package com.example.config;
 
 import com.example.domain.enums.UserRole;
+import com.example.security.BoundedPasswordEncoder;
+import com.example.security.CalibratedBCryptPasswordEncoder;
 import com.example.security.JwtSecurityFilter;
+import com.example.security.JwtSigningProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -10,8 +17,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.servletapi.SecurityContextHolderAwareRequestFilter;
 
@@ -19,6 +24,7 @@ import org.springframework.security.web.servletapi.SecurityContextHolderAwareReq
 @RequiredArgsConstructor
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true)
+@EnableConfigurationProperties(JwtSigningProperties.class)
 public class SecurityConfig {
 
     private final JwtSecurityFilter jwtSecurityFilter;
@@ -38,15 +44,35 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(
                                 "/api/auth/login", "/api/auth/signup", "/error","/h2-console/*",
-                                "/swagger-ui/**","/swagger-ui","/v3/api-docs/**","/api/auth/reissue"
+                                "/swagger-ui/**","/swagger-ui","/v3/api-docs/**","/api/auth/reissue",
+                                "/actuator/health","/actuator/health/**","/.well-known/jwks.json"
                         ).permitAll()
+                        // 인증 단계별 지표, Hibernate 통계 등이 노출되므로 관리자만. 스크레이퍼는 관리자 토큰을 보낸다.
+                        .requestMatchers("/actuator/**").hasAuthority(UserRole.Authority.ADMIN)
                         .anyRequest().authenticated()
                 )
                 .build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(@Value("${security.password.hashing.threads:0}") int threads,
+                                                  @Value("${security.password.hashing.queue-capacity:100}") int queueCapacity,
+                                                  @Value("${security.password.hashing.timeout-ms:2000}") long timeoutMillis,
+                                                  @Value("${security.password.bcrypt.cost:0}") int fixedCost,
+                                                  @Value("${security.password.bcrypt.target-ms:250}") long targetMillis,
+                                                  @Value("${security.password.bcrypt.min-cost:10}") int minCost,
+                                                  @Value("${security.password.bcrypt.max-cost:14}") int maxCost,
+                                                  MeterRegistry meterRegistry) {
+        // cost 가 지정되지 않으면 기동 시 측정해서 목표 지연 시간에 맞는 cost 를 고른다.
+        // 이 cost 보다 낮은 기존 해시는 로그인 시 이 cost 로 올린다. 더 높은 해시는 낮추지 않는다.
+        CalibratedBCryptPasswordEncoder bcrypt = fixedCost > 0
+                ? new CalibratedBCryptPasswordEncoder(fixedCost)
+                : CalibratedBCryptPasswordEncoder.calibrate(targetMillis, minCost, maxCost);
+        Gauge.builder("password.bcrypt.cost", bcrypt, CalibratedBCryptPasswordEncoder::getCost)
+                .register(meterRegistry);
+
+        // threads 가 0 이면 CPU 코어 수만큼 사용
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(bcrypt, poolSize, queueCapacity, timeoutMillis, meterRegistry);
     }
 }
@@ -0,0 +1,79 @@
+package com.example.db.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ddl-auto 가 만든 기존 스키마의 unique 인덱스(UK_xxxx 형태의 임의 이름)를 V1 과 같은 이름으로 맞춘다.
+ * 이름 변경은 InnoDB 에서 메타데이터만 바꾸므로 테이블을 다시 만들지 않고, 인덱스가 없을 때만 온라인으로 새로 만든다.
+ * V1 으로 새로 만든 스키마에서는 아무것도 하지 않는다.
+ */
+@Slf4j(topic = "Schema_Migration")
+public class V2__Name_user_unique_indexes extends BaseJavaMigration {
+
+    // 컬럼 하나로만 이루어진 unique 인덱스
+    private static final String FIND_UNIQUE_INDEXES = """
+            SELECT index_name
+              FROM information_schema.statistics
+             WHERE table_schema = DATABASE()
+               AND table_name = 'users'
+               AND non_unique = 0
+               AND index_name <> 'PRIMARY'
+             GROUP BY index_name
+            HAVING COUNT(*) = 1 AND MAX(column_name) = ?
+            """;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        nameUniqueIndex(connection, "username", "uk_users_username");
+        nameUniqueIndex(connection, "nickname", "uk_users_nickname");
+    }
+
+    private void nameUniqueIndex(Connection connection, String column, String indexName) throws SQLException {
+        List<String> existing = findUniqueIndexes(connection, column);
+        try (Statement statement = connection.createStatement()) {
+            if (existing.isEmpty()) {
+                log.info("Creating unique index {} on users({})", indexName, column);
+                statement.execute("ALTER TABLE users ADD UNIQUE INDEX " + indexName + " (" + column + "), "
+                        + "ALGORITHM=INPLACE, LOCK=NONE");
+                return;
+            }
+            if (!existing.contains(indexName)) {
+                String current = existing.get(0);
+                log.info("Renaming unique index {} on users({}) to {}", current, column, indexName);
+                statement.execute("ALTER TABLE users RENAME INDEX `" + current + "` TO " + indexName);
+                existing.set(0, indexName);
+            }
+            // 같은 컬럼에 중복으로 만들어진 unique 인덱스는 쓰기 비용만 늘리므로 정리한다.
+            for (String duplicate : existing) {
+                if (!duplicate.equals(indexName)) {
+                    log.info("Dropping duplicate unique index {} on users({})", duplicate, column);
+                    statement.execute("ALTER TABLE users DROP INDEX `" + duplicate + "`, ALGORITHM=INPLACE, LOCK=NONE");
+                }
+            }
+        }
+    }
+
+    private List<String> findUniqueIndexes(Connection connection, String column) throws SQLException {
+        List<String> indexes = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_UNIQUE_INDEXES)) {
+            statement.setString(1, column);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    indexes.add(resultSet.getString(1));
+                }
+            }
+        }
+        return indexes;
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.domain.entity;
 
 import com.example.common.Timestamped;
+import com.example.common.id.SnowflakeId;
 import com.example.domain.enums.UserRole;
+import com.example.domain.user.service.UserCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -10,21 +12,25 @@ import lombok.*;
 @NoArgsConstructor
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_username", columnNames = "username"),
+        @UniqueConstraint(name = "uk_users_nickname", columnNames = "nickname")
+})
+@EntityListeners(UserCacheEvictionListener.class)
 public class User extends Timestamped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "user_id")
     private Long id;
 
-    @Column(length = 150, nullable = false, unique = true)
+    @Column(length = 150, nullable = false)
     private String username;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(nullable = false,  unique = true)
+    @Column(nullable = false)
     private String nickname;
 
     @Enumerated(EnumType.STRING)
@@ -6,6 +6,7 @@ import lombok.Getter;
 @AllArgsConstructor
 @Getter
 public enum TokenType {
+    // compact 액세스 토큰은 순번(ordinal)을 담으므로 순서를 바꾸지 말고 새 값은 끝에 추가한다.
     ACCESS(4 * 60 * 60 * 1000), // 4hour
     REFRESH(24 * 60 * 60 * 1000); // 24hour
     private final long lifeTime;
@@ -8,6 +8,7 @@ import java.util.Arrays;
 @Getter
 @RequiredArgsConstructor
 public enum UserRole {
+    // compact 액세스 토큰은 순번(ordinal)을 담으므로 순서를 바꾸지 말고 새 값은 끝에 추가한다.
 
     ROLE_USER(Authority.USER),
     ROLE_ADMIN(Authority.ADMIN);
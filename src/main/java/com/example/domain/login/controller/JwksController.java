@@ -0,0 +1,40 @@
+package com.example.domain.login.controller;
+
+import com.example.security.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 액세스 토큰 검증용 공개 키 (RFC 7517). 다른 서비스는 이 문서를 캐싱해 토큰을 직접 검증한다.
+ * 본문은 기동 시 한 번 직렬화해 두고, 키가 바뀌지 않았으면 304 로 응답한다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final MediaType JWK_SET = MediaType.parseMediaType("application/jwk-set+json");
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<byte[]> jwks(@RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        CacheControl cacheControl = CacheControl.maxAge(jwtKeyRing.getJwksMaxAge()).cachePublic();
+        if (jwtKeyRing.getJwksETag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .eTag(jwtKeyRing.getJwksETag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(JWK_SET)
+                .cacheControl(cacheControl)
+                .eTag(jwtKeyRing.getJwksETag())
+                .body(jwtKeyRing.getJwks());
+    }
+}
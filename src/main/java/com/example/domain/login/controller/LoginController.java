@@ -3,14 +3,24 @@ package com.example.domain.login.controller;
 import com.example.common.ApiResponse;
 import com.example.domain.login.dto.request.LoginRequest;
 import com.example.domain.login.dto.response.LoginResponse;
+import com.example.domain.login.dto.response.SessionResponse;
+import com.example.domain.login.service.LoginRateLimiter;
 import com.example.domain.login.service.LoginService;
+import com.example.security.AuthUser;
 import com.example.security.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+import java.util.List;
 
+
+@Profile("!reactive")
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/auth")
@@ -18,8 +28,13 @@ public class LoginController {
 
     private final LoginService loginService;
 
+    private final LoginRateLimiter loginRateLimiter;
+
     @PostMapping("/login")
-    public ApiResponse<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public ApiResponse<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest,
+                                            HttpServletRequest httpRequest) {
+        // server.forward-headers-strategy=native 로 프록시 뒤에서도 remoteAddr 가 실제 클라이언트 IP 다.
+        loginRateLimiter.check(httpRequest.getRemoteAddr(), loginRequest.getUsername());
         LoginResponse response = loginService.login(loginRequest);
         return ApiResponse.ok("로그인 성공", response);
     }
@@ -29,4 +44,25 @@ public class LoginController {
         LoginResponse response = loginService.reissue(refreshToken);
         return ApiResponse.createSuccess(HttpStatus.OK.value(), "토큰 재발급 성공", response);
     }
+
+    @PostMapping("/logout")
+    public ApiResponse<Void> logout(@AuthenticationPrincipal AuthUser authUser) {
+        loginService.logout(authUser);
+        return ApiResponse.ok("로그아웃 성공", null);
+    }
+
+    @GetMapping("/sessions")
+    public ApiResponse<List<SessionResponse>> sessions(@AuthenticationPrincipal AuthUser authUser) {
+        List<SessionResponse> response = loginService.sessions(authUser.getUserId()).stream()
+                .map(session -> new SessionResponse(session.deviceId(), Instant.ofEpochMilli(session.expiresAt()),
+                        session.deviceId().equals(authUser.getDeviceId())))
+                .toList();
+        return ApiResponse.ok("세션 목록 조회 성공", response);
+    }
+
+    @DeleteMapping("/sessions")
+    public ApiResponse<Void> logoutAll(@AuthenticationPrincipal AuthUser authUser) {
+        loginService.logoutAll(authUser);
+        return ApiResponse.ok("모든 기기에서 로그아웃 성공", null);
+    }
 }
@@ -0,0 +1,73 @@
+package com.example.domain.login.controller;
+
+import com.example.common.ApiResponse;
+import com.example.domain.login.dto.request.LoginRequest;
+import com.example.domain.login.dto.response.LoginResponse;
+import com.example.domain.login.dto.response.SessionResponse;
+import com.example.domain.login.service.LoginRateLimiter;
+import com.example.domain.login.service.ReactiveLoginService;
+import com.example.security.AuthUser;
+import com.example.security.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * reactive 프로파일에서 LoginController 를 대신한다.
+ * Mono 를 반환하므로 서블릿 비동기 처리로 전환되어, 응답을 기다리는 동안 톰캣 스레드를 반납한다.
+ */
+@Profile("reactive")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/auth")
+public class ReactiveLoginController {
+
+    private final ReactiveLoginService loginService;
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    @PostMapping("/login")
+    public Mono<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest,
+                                                  HttpServletRequest httpRequest) {
+        // server.forward-headers-strategy=native 로 프록시 뒤에서도 remoteAddr 가 실제 클라이언트 IP 다.
+        loginRateLimiter.check(httpRequest.getRemoteAddr(), loginRequest.getUsername());
+        return loginService.login(loginRequest)
+                .map(response -> ApiResponse.ok("로그인 성공", response));
+    }
+
+    @PostMapping("/reissue")
+    public Mono<ApiResponse<LoginResponse>> reissue(@RequestHeader(JwtUtil.REFRESH_TOKEN_HEADER) String refreshToken) {
+        return loginService.reissue(refreshToken)
+                .map(response -> ApiResponse.createSuccess(HttpStatus.OK.value(), "토큰 재발급 성공", response));
+    }
+
+    @PostMapping("/logout")
+    public Mono<ApiResponse<Void>> logout(@AuthenticationPrincipal AuthUser authUser) {
+        return loginService.logout(authUser)
+                .then(Mono.fromSupplier(() -> ApiResponse.<Void>ok("로그아웃 성공", null)));
+    }
+
+    @GetMapping("/sessions")
+    public Mono<ApiResponse<List<SessionResponse>>> sessions(@AuthenticationPrincipal AuthUser authUser) {
+        return loginService.sessions(authUser.getUserId())
+                .map(sessions -> sessions.stream()
+                        .map(session -> new SessionResponse(session.deviceId(), Instant.ofEpochMilli(session.expiresAt()),
+                                session.deviceId().equals(authUser.getDeviceId())))
+                        .toList())
+                .map(response -> ApiResponse.ok("세션 목록 조회 성공", response));
+    }
+
+    @DeleteMapping("/sessions")
+    public Mono<ApiResponse<Void>> logoutAll(@AuthenticationPrincipal AuthUser authUser) {
+        return loginService.logoutAll(authUser)
+                .then(Mono.fromSupplier(() -> ApiResponse.<Void>ok("모든 기기에서 로그아웃 성공", null)));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.domain.login.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,5 +15,12 @@ public class LoginRequest {
     private String username;
     @NotBlank
     private String password;
+    // 선택. 같은 기기에서 다시 로그인하면 세션을 새로 늘리지 않고 덮어쓴다. 없으면 서버가 새로 만든다.
+    @Pattern(regexp = "[A-Za-z0-9_-]{8,64}")
+    private String deviceId;
+
+    public LoginRequest(String username, String password) {
+        this(username, password, null);
+    }
 
 }
@@ -0,0 +1,19 @@
+package com.example.domain.login.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionResponse {
+
+    private String deviceId;
+    private Instant expiresAt;
+    // 이 요청을 보낸 기기인지
+    private boolean current;
+
+}
@@ -0,0 +1,160 @@
+package com.example.domain.login.service;
+
+import com.example.common.exception.RateLimitExceededException;
+import com.example.common.ratelimit.SlidingWindowCounter;
+import com.example.common.ratelimit.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 요청 한도. BCrypt 검증과 사용자 조회 전에 클라이언트 IP 와 아이디별로 검사한다.
+ * 1차: 노드별 락 없는 토큰 버킷 (순간 폭주 차단)
+ * 2차: Redis 슬라이딩 윈도 (클러스터 전체 한도, rate-limit.login.cluster.enabled=true 일 때)
+ * 두 단계 모두 요청 경로에서 Redis 를 부르지 않는다.
+ */
+@Slf4j(topic = "Rate_Limit")
+@Component
+public class LoginRateLimiter implements DisposableBean {
+
+    private final boolean enabled;
+
+    private final Limit ipLimit;
+    private final Limit usernameLimit;
+
+    private final SlidingWindowCounter clusterCounter;
+
+    private final Counter localRejected;
+    private final Counter clusterRejected;
+
+    // 버킷 시각과 미사용 버킷 만료에 같은 시계를 쓴다.
+    private final Ticker ticker;
+
+    @Autowired
+    public LoginRateLimiter(@Value("${rate-limit.login.enabled:true}") boolean enabled,
+                            @Value("${rate-limit.login.ip.capacity:20}") int ipCapacity,
+                            @Value("${rate-limit.login.ip.refill-interval:1s}") Duration ipRefillInterval,
+                            @Value("${rate-limit.login.ip.cluster-limit:300}") long ipClusterLimit,
+                            @Value("${rate-limit.login.username.capacity:5}") int usernameCapacity,
+                            @Value("${rate-limit.login.username.refill-interval:12s}") Duration usernameRefillInterval,
+                            @Value("${rate-limit.login.username.cluster-limit:20}") long usernameClusterLimit,
+                            @Value("${rate-limit.login.max-tracked-keys:100000}") long maxTrackedKeys,
+                            @Value("${rate-limit.login.cluster.enabled:false}") boolean clusterEnabled,
+                            @Value("${rate-limit.login.cluster.window:1m}") Duration clusterWindow,
+                            @Value("${rate-limit.login.cluster.sync-interval:200ms}") Duration syncInterval,
+                            StringRedisTemplate stringRedisTemplate,
+                            MeterRegistry meterRegistry) {
+        this(enabled, ipCapacity, ipRefillInterval, ipClusterLimit, usernameCapacity, usernameRefillInterval,
+                usernameClusterLimit, maxTrackedKeys, clusterEnabled, clusterWindow, syncInterval,
+                stringRedisTemplate, meterRegistry, Ticker.systemTicker());
+    }
+
+    LoginRateLimiter(boolean enabled, int ipCapacity, Duration ipRefillInterval, long ipClusterLimit,
+                     int usernameCapacity, Duration usernameRefillInterval, long usernameClusterLimit,
+                     long maxTrackedKeys, boolean clusterEnabled, Duration clusterWindow, Duration syncInterval,
+                     StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = enabled;
+        this.ticker = ticker;
+        this.ipLimit = new Limit("ip", ipCapacity, ipRefillInterval, ipClusterLimit, maxTrackedKeys, ticker);
+        this.usernameLimit = new Limit("username", usernameCapacity, usernameRefillInterval, usernameClusterLimit,
+                maxTrackedKeys, ticker);
+        if (enabled && clusterEnabled) {
+            this.clusterCounter = new SlidingWindowCounter(stringRedisTemplate, "rate:login:", clusterWindow);
+            this.clusterCounter.start(syncInterval);
+        } else {
+            this.clusterCounter = null;
+        }
+
+        this.localRejected = Counter.builder("auth.rate.limited").tag("tier", "local").register(meterRegistry);
+        this.clusterRejected = Counter.builder("auth.rate.limited").tag("tier", "cluster").register(meterRegistry);
+    }
+
+    /**
+     * 한도를 넘으면 RateLimitExceededException(429) 을 던진다.
+     */
+    public void check(String clientIp, String username) {
+        if (!enabled) {
+            return;
+        }
+        String normalizedUsername = username == null ? "" : username.toLowerCase(Locale.ROOT);
+
+        long nowNanos = ticker.read();
+        acquireLocal(ipLimit, clientIp, nowNanos);
+        acquireLocal(usernameLimit, normalizedUsername, nowNanos);
+
+        if (clusterCounter != null) {
+            long nowMillis = System.currentTimeMillis();
+            acquireCluster(ipLimit, clientIp, nowMillis);
+            acquireCluster(usernameLimit, normalizedUsername, nowMillis);
+        }
+    }
+
+    // 노드가 추적 중인 IP/아이디 버킷 수
+    long trackedKeys() {
+        ipLimit.buckets.cleanUp();
+        usernameLimit.buckets.cleanUp();
+        return ipLimit.buckets.estimatedSize() + usernameLimit.buckets.estimatedSize();
+    }
+
+    @Override
+    public void destroy() {
+        if (clusterCounter != null) {
+            clusterCounter.destroy();
+        }
+    }
+
+    private void acquireLocal(Limit limit, String key, long nowNanos) {
+        TokenBucket bucket = limit.buckets.get(key, k -> new TokenBucket(limit.capacity, limit.refillInterval, nowNanos));
+        long waitNanos = bucket.tryAcquire(nowNanos);
+        if (waitNanos > 0) {
+            localRejected.increment();
+            throw new RateLimitExceededException(toRetryAfterSeconds(TimeUnit.NANOSECONDS.toMillis(waitNanos)));
+        }
+    }
+
+    private void acquireCluster(Limit limit, String key, long nowMillis) {
+        long waitMillis = clusterCounter.tryAcquire(limit.name + ':' + key, limit.clusterLimit, nowMillis);
+        if (waitMillis > 0) {
+            clusterRejected.increment();
+            throw new RateLimitExceededException(toRetryAfterSeconds(waitMillis));
+        }
+    }
+
+    private static long toRetryAfterSeconds(long waitMillis) {
+        return Math.max(1, (waitMillis + 999) / 1000);
+    }
+
+    private static final class Limit {
+        private final String name;
+        private final int capacity;
+        private final Duration refillInterval;
+        private final long clusterLimit;
+        // 가득 찬 버킷은 새로 만든 것과 같으므로, 버킷이 다 채워질 시간 동안 쓰이지 않으면 버린다.
+        private final Cache<String, TokenBucket> buckets;
+
+        private Limit(String name, int capacity, Duration refillInterval, long clusterLimit, long maxTrackedKeys,
+                      Ticker ticker) {
+            this.name = name;
+            this.capacity = capacity;
+            this.refillInterval = refillInterval;
+            this.clusterLimit = clusterLimit;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxTrackedKeys)
+                    .expireAfterAccess(refillInterval.multipliedBy(capacity))
+                    .ticker(ticker)
+                    .build();
+        }
+    }
+}
@@ -2,132 +2,156 @@ package com.example.domain.login.service;
 
 import com.example.common.ErrorStatus;
 import com.example.common.exception.ApiException;
-import com.example.domain.entity.User;
-import com.example.domain.enums.TokenType;
-import com.example.domain.enums.UserRole;
+import com.example.common.monitoring.AuthMetrics;
+import com.example.common.monitoring.AuthMetrics.Stage;
+import com.example.common.monitoring.jfr.AuthFlowEvent;
+import com.example.common.monitoring.jfr.LoginEvent;
+import com.example.common.monitoring.jfr.ReissueEvent;
 import com.example.domain.login.dto.request.LoginRequest;
 import com.example.domain.login.dto.response.LoginResponse;
-import com.example.domain.repository.UserRepository;
+import com.example.domain.user.dto.UserSnapshot;
+import com.example.domain.user.service.UserLookupService;
+import com.example.security.AuthUser;
 import com.example.security.JwtUtil;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
+import com.example.security.ParsedToken;
+import com.example.security.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
+import java.util.Locale;
 
 
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class LoginService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
 
     private final PasswordEncoder passwordEncoder;
 
     private final JwtUtil jwtUtil;
 
-    private final UserRepository repository;
-
-    @Transactional
-    public LoginResponse login(LoginRequest request) {
-        User user = repository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new ApiException(ErrorStatus.NOT_FOUND_USER));
+    // 캐시 적중 시 DB 커넥션을 쓰지 않도록 서비스 단 트랜잭션은 두지 않는다.
+    // 캐시 미스 시 조회는 리포지토리의 readOnly 트랜잭션으로 레플리카에서 읽는다.
+    private final UserLookupService userLookupService;
 
+    private final PasswordRehashService passwordRehashService;
 
-        validatePasswordMatch(request.getPassword(), user.getPassword());
+    private final AuthMetrics authMetrics;
 
-        String accessToken = jwtUtil.createAccessToken(user.getId(), user.getNickname(),user.getUsername(),user.getUserRole());
-        String refreshToken = jwtUtil.createRefreshToken(user.getId());
-        saveRefreshTokenInRedis(user.getId(), refreshToken);
+    private final TokenRevocationList tokenRevocationList;
 
+    public LoginResponse login(LoginRequest request) {
+        return AuthFlowEvent.trace(new LoginEvent(), () -> doLogin(request));
+    }
 
+    public LoginResponse reissue(String refreshToken) {
+        return AuthFlowEvent.trace(new ReissueEvent(), () -> doReissue(refreshToken));
+    }
 
-        return new LoginResponse(accessToken, refreshToken);
+    /**
+     * 요청에 쓰인 액세스 토큰을 무효화하고 이 기기의 리프레시 세션을 지운다.
+     * 기기 ID 가 없는 이전 토큰이면 사용자의 모든 세션을 지운다.
+     */
+    public void logout(AuthUser authUser) {
+        revokeAccessToken(authUser);
+        if (authUser.getDeviceId() == null) {
+            refreshTokenStore.deleteAll(authUser.getUserId());
+        } else {
+            refreshTokenStore.delete(authUser.getUserId(), authUser.getDeviceId());
+        }
     }
 
+    /**
+     * 모든 기기의 리프레시 세션을 한 번에 지운다.
+     * 다른 기기의 액세스 토큰은 만료될 때까지 유효하지만 재발급은 더 이상 되지 않는다.
+     */
+    public void logoutAll(AuthUser authUser) {
+        revokeAccessToken(authUser);
+        refreshTokenStore.deleteAll(authUser.getUserId());
+    }
 
-    private void saveRefreshTokenInRedis(Long userId, String refreshToken) {
-        redisTemplate.opsForValue().set(
-                JwtUtil.REDIS_REFRESH_TOKEN_PREFIX + userId,
-                refreshToken,
-                TokenType.REFRESH.getLifeTime(),
-                TimeUnit.MILLISECONDS
-        );
+    public List<RefreshTokenStore.Session> sessions(Long userId) {
+        return refreshTokenStore.sessions(userId);
     }
 
-    public LoginResponse reissue(String refreshToken) {
-        // 1. 리프레시 토큰이 null인지 확인
-        if (!StringUtils.hasText(refreshToken)) {
-            throw new ApiException(ErrorStatus.NOT_FOUND_REFRESH_TOKEN);
+    private void revokeAccessToken(AuthUser authUser) {
+        if (authUser.getTokenId() != null) {
+            tokenRevocationList.revoke(authUser.getTokenId(), authUser.getExpiresAt());
         }
+    }
 
-        try {
-            // 2. "Bearer " 접두사를 제거
-            refreshToken = jwtUtil.substringToken(refreshToken);
-        } catch (IllegalArgumentException e) {
-            throw new ApiException(ErrorStatus.INVALID_TOKEN_FORMAT);
-        }
+    private LoginResponse doLogin(LoginRequest request) {
+        UserSnapshot user = authMetrics.record(Stage.USER_LOOKUP, () -> userLookupService.findByUsername(request.getUsername())
+                .orElseThrow(() -> new ApiException(ErrorStatus.NOT_FOUND_USER)));
+        AuthFlowEvent.recordUserId(user.id());
 
-        // 3. 리프레시 토큰인지 확인
-        String category = jwtUtil.getCategory(refreshToken);
-        if (!TokenType.REFRESH.name().equals(category)) {
-            throw new ApiException(ErrorStatus.NOT_REFRESH_TOKEN);
-        }
 
-        // 4. 토큰 만료 여부 검사
-        try{
-            jwtUtil.isExpired(refreshToken);
-        } catch (ExpiredJwtException e) {
-            throw new ApiException(ErrorStatus.EXPIRED_REFRESH_TOKEN);
-        }
+        validatePasswordMatch(request.getPassword(), user.password());
+        // 저장된 해시의 cost 가 목표와 다르면 백그라운드에서 재해싱
+        passwordRehashService.rehashIfNeeded(user.id(), request.getPassword(), user.password());
 
-        // 5. 레디스에서 리프레시 토큰 가져오기
-        String key = JwtUtil.REDIS_REFRESH_TOKEN_PREFIX + jwtUtil.getUserId(refreshToken);
-        String storedRefreshToken = (String) redisTemplate.opsForValue().get(key);
-        if (!StringUtils.hasText(storedRefreshToken)) {
-            throw new ApiException(ErrorStatus.EXPIRED_REFRESH_TOKEN);
-        }
+        String deviceId = request.getDeviceId() != null ? request.getDeviceId() : RefreshTokenStore.newDeviceId();
+        long mintStart = System.nanoTime();
+        String accessToken = jwtUtil.createAccessToken(user.id(), user.nickname(),user.username(),user.userRole(), deviceId);
+        String refreshToken = jwtUtil.createRefreshToken(user.id(), deviceId);
+        authMetrics.record(Stage.TOKEN_MINT, AuthMetrics.SUCCESS, System.nanoTime() - mintStart);
 
-        // 6. 저장된 리프레시 토큰의 접두사 제거 후 비교
-        if (!refreshToken.equals(storedRefreshToken)) {
-            throw new ApiException(ErrorStatus.INVALID_REFRESH_TOKEN);
-        }
+        authMetrics.record(Stage.REDIS_SAVE, () -> saveRefreshTokenInRedis(user.id(), deviceId, refreshToken));
 
-        // 7. 검증 통과 후 새로운 토큰 발급
-        Claims claims = jwtUtil.extractClaims(refreshToken);
-        Long userId = Long.parseLong(claims.getSubject());
 
-        User user = repository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorStatus.LOG_IN_AGAIN));
 
+        return new LoginResponse(accessToken, refreshToken);
+    }
 
-        String newAccessToken = jwtUtil.createAccessToken(user.getId(),user.getNickname(),user.getUsername(),user.getUserRole());
-        String newRefreshToken = jwtUtil.createRefreshToken(userId);
 
-        // 8. 새로운 리프레시 토큰을 Redis에 저장
-        // TTL 새로해서
-        String userIdToString = String.valueOf(userId);
-        Long ttl = redisTemplate.getExpire(JwtUtil.REDIS_REFRESH_TOKEN_PREFIX + userIdToString, TimeUnit.MILLISECONDS);
+    private void saveRefreshTokenInRedis(Long userId, String deviceId, String refreshToken) {
+        refreshTokenStore.save(userId, deviceId, refreshToken);
+    }
 
-        if (ttl == null || ttl <= 0) {
+    private LoginResponse doReissue(String refreshToken) {
+        // 1~4. 헤더 형식, 서명/만료, 카테고리 검증
+        String presentedToken = jwtUtil.resolveRefreshToken(refreshToken);
+        ParsedToken parsedToken = authMetrics.record(Stage.TOKEN_VERIFY, () -> jwtUtil.parseRefreshToken(presentedToken));
+
+        // 5. 사용자 조회 후 새로운 토큰 발급
+        Long userId = parsedToken.getUserId();
+        AuthFlowEvent.recordUserId(userId);
+        UserSnapshot user = authMetrics.record(Stage.USER_LOOKUP, () -> userLookupService.findById(userId)
+                .orElseThrow(() -> new ApiException(ErrorStatus.LOG_IN_AGAIN)));
+
+        // 기기 ID 가 없는 이전 토큰이면 새 기기 ID 를 발급해 세션을 옮긴다.
+        String presentedDeviceId = parsedToken.getDeviceId() != null
+                ? parsedToken.getDeviceId() : RefreshTokenStore.LEGACY_DEVICE;
+        String deviceId = parsedToken.getDeviceId() != null ? parsedToken.getDeviceId() : RefreshTokenStore.newDeviceId();
+        long mintStart = System.nanoTime();
+        String newAccessToken = jwtUtil.createAccessToken(user.id(),user.nickname(),user.username(),user.userRole(), deviceId);
+        String newRefreshToken = jwtUtil.createRefreshToken(userId, deviceId);
+        authMetrics.record(Stage.TOKEN_MINT, AuthMetrics.SUCCESS, System.nanoTime() - mintStart);
+
+        // 6. 이 기기의 저장된 토큰과 비교 후 교체 (만료 시각 유지). Redis 한 번 왕복으로 원자적으로 처리
+        RefreshTokenStore.RotationResult result = authMetrics.record(Stage.REDIS_ROTATE,
+                () -> refreshTokenStore.rotate(userId, presentedDeviceId, deviceId, presentedToken, newRefreshToken),
+                rotation -> rotation.name().toLowerCase(Locale.ROOT));
+        if (result == RefreshTokenStore.RotationResult.MISSING) {
             throw new ApiException(ErrorStatus.EXPIRED_REFRESH_TOKEN);
         }
+        if (result == RefreshTokenStore.RotationResult.MISMATCH) {
+            throw new ApiException(ErrorStatus.INVALID_REFRESH_TOKEN);
+        }
 
-        redisTemplate.opsForValue().set(JwtUtil.REDIS_REFRESH_TOKEN_PREFIX  + userIdToString, newRefreshToken, ttl, TimeUnit.MILLISECONDS);
-
-        // 9. 새로운 액세스 토큰과 리프레시 토큰 반환
+        // 7. 새로운 액세스 토큰과 리프레시 토큰 반환
         return new LoginResponse(newAccessToken, newRefreshToken);
     }
 
 
     private void validatePasswordMatch(String rawPassword, String encodedPassword) {
-        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+        boolean matched = authMetrics.record(Stage.PASSWORD_VERIFY,
+                () -> passwordEncoder.matches(rawPassword, encodedPassword),
+                result -> result ? AuthMetrics.SUCCESS : AuthMetrics.BAD_CREDENTIALS);
+        if (!matched) {
             throw new ApiException(ErrorStatus.INVALID_CREDENTIALS);
         }
     }
@@ -0,0 +1,81 @@
+package com.example.domain.login.service;
+
+import com.example.common.exception.ApiException;
+import com.example.domain.repository.UserRepository;
+import com.example.domain.user.service.UserLookupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인에 성공한 사용자의 해시 cost 가 재해싱 하한보다 낮으면 백그라운드에서 다시 해싱해 저장한다.
+ * 대량 마이그레이션 없이 로그인하는 사용자부터 하한 이상의 cost 로 올린다.
+ */
+@Slf4j(topic = "Password_Rehash")
+@Service
+public class PasswordRehashService implements DisposableBean {
+
+    private final UserRepository repository;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final UserLookupService userLookupService;
+
+    // 재해싱은 급하지 않으므로 스레드 1개, 대기열이 차면 버리고 다음 로그인 때 다시 시도한다.
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1000),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-rehash");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+    );
+
+    public PasswordRehashService(UserRepository repository, PasswordEncoder passwordEncoder,
+                                 UserLookupService userLookupService) {
+        this.repository = repository;
+        this.passwordEncoder = passwordEncoder;
+        this.userLookupService = userLookupService;
+    }
+
+    public void rehashIfNeeded(Long userId, String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            executor.execute(() -> rehash(userId, rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            log.debug("Rehash queue is full, skipping user {}", userId);
+        }
+    }
+
+    private void rehash(Long userId, String rawPassword, String encodedPassword) {
+        try {
+            String rehashed = passwordEncoder.encode(rawPassword);
+            int updated = repository.updatePasswordIfUnchanged(userId, encodedPassword, rehashed);
+            if (updated == 1) {
+                // 벌크 업데이트는 엔티티 리스너를 거치지 않으므로 직접 캐시를 지운다.
+                userLookupService.evict(userId);
+                log.debug("Rehashed password of user {}", userId);
+            }
+        } catch (ApiException e) {
+            // 해싱 풀이 바쁘면 로그인 트래픽을 우선하고 다음 로그인 때 다시 시도한다.
+            log.debug("Password hashing pool is busy, skipping rehash of user {}", userId);
+        } catch (Exception e) {
+            log.warn("Failed to rehash password of user {}", userId, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.domain.login.service;
+
+import com.example.common.ErrorStatus;
+import com.example.common.exception.ApiException;
+import com.example.common.monitoring.AuthMetrics;
+import com.example.common.monitoring.AuthMetrics.Stage;
+import com.example.common.monitoring.jfr.AuthFlowEvent;
+import com.example.common.monitoring.jfr.LoginEvent;
+import com.example.common.monitoring.jfr.ReissueEvent;
+import com.example.domain.login.dto.request.LoginRequest;
+import com.example.domain.login.dto.response.LoginResponse;
+import com.example.domain.user.dto.UserSnapshot;
+import com.example.domain.user.service.UserLookupService;
+import com.example.security.AuthUser;
+import com.example.security.BoundedPasswordEncoder;
+import com.example.security.JwtUtil;
+import com.example.security.ParsedToken;
+import com.example.security.TokenRevocationList;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * LoginService 의 논블로킹 버전.
+ * Redis 는 ReactiveRefreshTokenStore(Lettuce 리액티브 API)로, BCrypt 는 BoundedPasswordEncoder 의 해싱 풀로,
+ * JPA 조회는 크기가 제한된 전용 스케줄러로 넘겨 요청 스레드를 점유하지 않는다.
+ * 단계별 auth.stage 타이머와 JFR LoginEvent/ReissueEvent 는 LoginService 와 같은 단계/결과로 남긴다.
+ * 스케줄러를 옮겨 다니므로 JFR 이벤트는 AuthFlowEvent.traceReactive 로 넘기고 각 단계를 within 으로 감싼다.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveLoginService implements DisposableBean {
+
+    private final ReactiveRefreshTokenStore reactiveRefreshTokenStore;
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    private final JwtUtil jwtUtil;
+
+    private final UserLookupService userLookupService;
+
+    private final PasswordRehashService passwordRehashService;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    private final AuthMetrics authMetrics;
+
+    // JPA 는 블로킹이므로 커넥션 풀 크기에 맞춘 전용 스케줄러에서만 실행한다.
+    private final Scheduler databaseScheduler;
+
+    public ReactiveLoginService(ReactiveRefreshTokenStore reactiveRefreshTokenStore,
+                                RefreshTokenStore refreshTokenStore,
+                                BoundedPasswordEncoder passwordEncoder,
+                                JwtUtil jwtUtil,
+                                UserLookupService userLookupService,
+                                PasswordRehashService passwordRehashService,
+                                TokenRevocationList tokenRevocationList,
+                                AuthMetrics authMetrics,
+                                @Value("${reactive.database.threads:10}") int databaseThreads,
+                                @Value("${reactive.database.queue-capacity:10000}") int databaseQueueCapacity) {
+        this.reactiveRefreshTokenStore = reactiveRefreshTokenStore;
+        this.refreshTokenStore = refreshTokenStore;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtUtil = jwtUtil;
+        this.userLookupService = userLookupService;
+        this.passwordRehashService = passwordRehashService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.authMetrics = authMetrics;
+        this.databaseScheduler = Schedulers.newBoundedElastic(databaseThreads, databaseQueueCapacity, "reactive-db");
+    }
+
+    public Mono<LoginResponse> login(LoginRequest request) {
+        return AuthFlowEvent.traceReactive(LoginEvent::new, event -> doLogin(request, event));
+    }
+
+    public Mono<LoginResponse> reissue(String bearerToken) {
+        return AuthFlowEvent.traceReactive(ReissueEvent::new, event -> doReissue(bearerToken, event));
+    }
+
+    private Mono<LoginResponse> doLogin(LoginRequest request, AuthFlowEvent event) {
+        return findUser(event, () -> userLookupService.findByUsername(request.getUsername()), ErrorStatus.NOT_FOUND_USER)
+                .flatMap(user -> timed(event, Stage.PASSWORD_VERIFY,
+                        Mono.fromFuture(() -> passwordEncoder.matchesAsync(request.getPassword(), user.password())),
+                        matched -> matched ? AuthMetrics.SUCCESS : AuthMetrics.BAD_CREDENTIALS)
+                        .flatMap(matched -> {
+                            if (!matched) {
+                                return Mono.error(new ApiException(ErrorStatus.INVALID_CREDENTIALS));
+                            }
+                            passwordRehashService.rehashIfNeeded(user.id(), request.getPassword(), user.password());
+
+                            String deviceId = request.getDeviceId() != null ? request.getDeviceId() : RefreshTokenStore.newDeviceId();
+                            long mintStart = System.nanoTime();
+                            String accessToken = jwtUtil.createAccessToken(user.id(), user.nickname(), user.username(), user.userRole(), deviceId);
+                            String refreshToken = jwtUtil.createRefreshToken(user.id(), deviceId);
+                            long mintNanos = System.nanoTime() - mintStart;
+                            AuthFlowEvent.within(event, () -> authMetrics.record(Stage.TOKEN_MINT, AuthMetrics.SUCCESS, mintNanos));
+                            return timed(event, Stage.REDIS_SAVE, reactiveRefreshTokenStore.save(user.id(), deviceId, refreshToken),
+                                    result -> AuthMetrics.SUCCESS)
+                                    .then(Mono.just(new LoginResponse(accessToken, refreshToken)));
+                        }));
+    }
+
+    private Mono<LoginResponse> doReissue(String bearerToken, AuthFlowEvent event) {
+        return Mono.fromCallable(() -> AuthFlowEvent.within(event, () -> {
+                    String refreshToken = jwtUtil.resolveRefreshToken(bearerToken);
+                    ParsedToken parsedToken = authMetrics.record(Stage.TOKEN_VERIFY, () -> jwtUtil.parseRefreshToken(refreshToken));
+                    AuthFlowEvent.recordUserId(parsedToken.getUserId());
+                    return new VerifiedRefreshToken(refreshToken, parsedToken);
+                }))
+                .flatMap(verified -> {
+                    Long userId = verified.parsedToken().getUserId();
+                    return findUser(event, () -> userLookupService.findById(userId), ErrorStatus.LOG_IN_AGAIN)
+                            .flatMap(user -> rotate(event, verified.token(), verified.parsedToken().getDeviceId(), user));
+                });
+    }
+
+    /**
+     * 요청에 쓰인 액세스 토큰을 무효화하고 이 기기의 리프레시 세션을 지운다. (LoginService.logout 과 같다)
+     * 무효화 목록과 세션 저장소는 블로킹 Redis 클라이언트를 쓰므로 boundedElastic 에서 실행한다.
+     */
+    public Mono<Void> logout(AuthUser authUser) {
+        return blocking(() -> {
+            revokeAccessToken(authUser);
+            if (authUser.getDeviceId() == null) {
+                refreshTokenStore.deleteAll(authUser.getUserId());
+            } else {
+                refreshTokenStore.delete(authUser.getUserId(), authUser.getDeviceId());
+            }
+        });
+    }
+
+    // 모든 기기의 리프레시 세션을 한 번에 지운다. (LoginService.logoutAll 과 같다)
+    public Mono<Void> logoutAll(AuthUser authUser) {
+        return blocking(() -> {
+            revokeAccessToken(authUser);
+            refreshTokenStore.deleteAll(authUser.getUserId());
+        });
+    }
+
+    public Mono<List<RefreshTokenStore.Session>> sessions(Long userId) {
+        return Mono.fromCallable(() -> refreshTokenStore.sessions(userId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private void revokeAccessToken(AuthUser authUser) {
+        if (authUser.getTokenId() != null) {
+            tokenRevocationList.revoke(authUser.getTokenId(), authUser.getExpiresAt());
+        }
+    }
+
+    private static Mono<Void> blocking(Runnable task) {
+        return Mono.fromRunnable(task)
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    // 새 토큰 발급 후 이 기기의 저장된 토큰과 비교해 교체 (만료 시각 유지, 스크립트 한 번)
+    private Mono<LoginResponse> rotate(AuthFlowEvent event, String presentedToken, String presentedDeviceId, UserSnapshot user) {
+        // 기기 ID 가 없는 이전 토큰이면 새 기기 ID 를 발급해 세션을 옮긴다.
+        String deviceId = presentedDeviceId != null ? presentedDeviceId : RefreshTokenStore.newDeviceId();
+        long mintStart = System.nanoTime();
+        String newAccessToken = jwtUtil.createAccessToken(user.id(), user.nickname(), user.username(), user.userRole(), deviceId);
+        String newRefreshToken = jwtUtil.createRefreshToken(user.id(), deviceId);
+        long mintNanos = System.nanoTime() - mintStart;
+        AuthFlowEvent.within(event, () -> authMetrics.record(Stage.TOKEN_MINT, AuthMetrics.SUCCESS, mintNanos));
+
+        return timed(event, Stage.REDIS_ROTATE, reactiveRefreshTokenStore.rotate(user.id(),
+                                presentedDeviceId != null ? presentedDeviceId : RefreshTokenStore.LEGACY_DEVICE, deviceId,
+                                presentedToken, newRefreshToken),
+                        rotation -> rotation.name().toLowerCase(Locale.ROOT))
+                .flatMap(result -> switch (result) {
+                    case ROTATED -> Mono.just(new LoginResponse(newAccessToken, newRefreshToken));
+                    case MISSING -> Mono.error(new ApiException(ErrorStatus.EXPIRED_REFRESH_TOKEN));
+                    case MISMATCH -> Mono.error(new ApiException(ErrorStatus.INVALID_REFRESH_TOKEN));
+                });
+    }
+
+    private Mono<UserSnapshot> findUser(AuthFlowEvent event, Supplier<Optional<UserSnapshot>> query, ErrorStatus notFound) {
+        return Mono.fromCallable(() -> AuthFlowEvent.within(event, () -> {
+                    UserSnapshot user = authMetrics.record(Stage.USER_LOOKUP,
+                            () -> query.get().orElseThrow(() -> new ApiException(notFound)));
+                    AuthFlowEvent.recordUserId(user.id());
+                    return user;
+                }))
+                .subscribeOn(databaseScheduler)
+                .onErrorMap(RejectedExecutionException.class, e -> new ApiException(ErrorStatus.SERVICE_BUSY));
+    }
+
+    /**
+     * 비동기 단계(해싱 풀, Redis)의 구독부터 완료까지를 AuthMetrics 에 기록한다.
+     * 값 없이 끝나면 success, 실패하면 AuthMetrics.outcomeOf 로 결과 태그를 정한다.
+     */
+    private <T> Mono<T> timed(AuthFlowEvent event, Stage stage, Mono<T> work, Function<T, String> outcomeOfResult) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return work
+                    .doOnSuccess(result -> AuthFlowEvent.within(event, () -> authMetrics.record(stage,
+                            result != null ? outcomeOfResult.apply(result) : AuthMetrics.SUCCESS, System.nanoTime() - start)))
+                    .doOnError(e -> AuthFlowEvent.within(event,
+                            () -> authMetrics.record(stage, AuthMetrics.outcomeOf(e), System.nanoTime() - start)));
+        });
+    }
+
+    @Override
+    public void destroy() {
+        databaseScheduler.dispose();
+    }
+
+    private record VerifiedRefreshToken(String token, ParsedToken parsedToken) {
+    }
+}
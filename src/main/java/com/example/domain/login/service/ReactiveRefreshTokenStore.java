@@ -0,0 +1,52 @@
+package com.example.domain.login.service;
+
+import com.example.domain.login.service.RefreshTokenStore.RotationResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * RefreshTokenStore 의 save/rotate 를 Lettuce 리액티브 API 로 실행한다. (reactive 프로파일)
+ * 스크립트와 인자, near-cache 처리(쓰기 후 evict, MISSING 이면 prefetch)는 RefreshTokenStore 와 같다.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveRefreshTokenStore {
+
+    private final ReactiveRedisTemplate<String, byte[]> reactiveRedisTemplate;
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    // RefreshTokenStore.save 와 같다.
+    public Mono<Void> save(Long userId, String deviceId, String refreshToken) {
+        return Mono.defer(() -> {
+            String key = RefreshTokenStore.key(userId);
+            return reactiveRedisTemplate.execute(RefreshTokenStore.SAVE_SCRIPT, List.of(key),
+                            refreshTokenStore.saveArgs(deviceId, refreshToken, System.currentTimeMillis()))
+                    .then(Mono.fromRunnable(() -> refreshTokenStore.evict(key)));
+        });
+    }
+
+    // RefreshTokenStore.rotate 와 같다.
+    public Mono<RotationResult> rotate(Long userId, String presentedDeviceId, String newDeviceId,
+                                       String presentedToken, String newToken) {
+        return Mono.defer(() -> {
+            String key = RefreshTokenStore.key(userId);
+            if (refreshTokenStore.isMissingInNearCache(key, presentedDeviceId)) {
+                return Mono.just(RotationResult.MISSING);
+            }
+            List<byte[]> args = refreshTokenStore.rotateArgs(presentedDeviceId, newDeviceId, presentedToken, newToken,
+                    System.currentTimeMillis());
+            return reactiveRedisTemplate.execute(RefreshTokenStore.ROTATE_SCRIPT, List.of(key), args)
+                    .next()
+                    .map(RotationResult::from)
+                    .defaultIfEmpty(RotationResult.MISSING)
+                    .doOnNext(result -> refreshTokenStore.afterRotate(key, result));
+        });
+    }
+}
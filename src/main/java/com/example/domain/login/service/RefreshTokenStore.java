@@ -0,0 +1,257 @@
+package com.example.domain.login.service;
+
+import com.example.common.redis.RedisNearCache;
+import com.example.domain.enums.TokenType;
+import com.example.security.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Redis 에 저장된 사용자별 리프레시 세션 관리.
+ * 사용자마다 해시 키 하나(Refresh_{userId})에 기기 ID 별 필드를 두고, 값은 "만료시각(ms):토큰 저장 형식" 이다.
+ * 키를 기기마다 나누지 않아 키 공간 오버헤드가 늘지 않으며, 목록 조회와 전체 로그아웃은 한 번의 왕복으로 끝난다.
+ * 저장과 재발급은 Lua 스크립트 한 번으로 처리해 동시 재발급 경쟁을 없애고, 재발급은 자기 기기의 필드만 바꾼다.
+ *
+ * compact 모드(기본값)에서는 토큰 원문 대신 32바이트 SHA-256 digest 만 바이너리로 저장한다.
+ * 이전에 JSON 으로 저장된 값도 비교를 통과하며, 재발급 시 digest 로 바뀐다.
+ * 기기별 해시 이전의 단일 문자열 값은 로그인이나 재발급 때 스크립트가 해시로 옮긴다.
+ *
+ * RedisNearCache 가 켜져 있으면 재발급에 실패한 키만 캐싱해 두고, 이미 없어진 기기의 토큰 재사용을 Redis 왕복 없이 거절한다.
+ * 토큰 비교(MISMATCH 판단)는 항상 스크립트에서 하고, 이 노드가 쓴 키는 캐시에서 바로 지워 오래된 값으로 판단하지 않는다.
+ */
+@Slf4j(topic = "Refresh_Token_Store")
+@Component
+public class RefreshTokenStore {
+
+    // did 가 없는 이전 리프레시 토큰의 세션이 옮겨지는 필드
+    public static final String LEGACY_DEVICE = "-";
+
+    static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/save_refresh_session.lua"), Long.class);
+    static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/rotate_refresh_session.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> LIST_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/list_refresh_sessions.lua"), List.class);
+
+    // RedisConfig.redisTemplate 의 값 직렬화 방식과 같아야 한다. (마이그레이션 전 값 비교용)
+    private static final RedisSerializer<Object> LEGACY_SERIALIZER = new GenericJackson2JsonRedisSerializer();
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RedisTemplate<String, byte[]> refreshTokenRedisTemplate;
+
+    private final boolean compactStorage;
+
+    private final int maxDevices;
+
+    // redis.near-cache.enabled=false 면 null
+    private final RedisNearCache nearCache;
+
+    public RefreshTokenStore(@Qualifier("refreshTokenRedisTemplate") RedisTemplate<String, byte[]> refreshTokenRedisTemplate,
+                             @Value("${jwt.refresh.compact-storage:true}") boolean compactStorage,
+                             @Value("${jwt.refresh.max-devices:5}") int maxDevices,
+                             ObjectProvider<RedisNearCache> nearCache) {
+        this.refreshTokenRedisTemplate = refreshTokenRedisTemplate;
+        this.compactStorage = compactStorage;
+        this.maxDevices = maxDevices;
+        this.nearCache = nearCache.getIfAvailable();
+    }
+
+    /**
+     * 기기의 세션을 저장한다. 같은 기기면 덮어쓰고, 한도를 넘으면 가장 오래된 기기를 밀어낸다.
+     */
+    public void save(Long userId, String deviceId, String refreshToken) {
+        Long evicted = refreshTokenRedisTemplate.execute(SAVE_SCRIPT, List.of(key(userId)),
+                saveArgs(deviceId, refreshToken, System.currentTimeMillis()).toArray());
+        if (evicted != null && evicted > 0) {
+            log.debug("Evicted {} oldest session(s) of user {}", evicted, userId);
+        }
+        evict(key(userId));
+    }
+
+    /**
+     * 저장된 presentedDeviceId 기기의 토큰이 presentedToken 과 같을 때만 newToken 으로 교체한다.
+     * 기기의 만료 시각은 그대로 유지되며 다른 기기의 필드는 건드리지 않는다.
+     * 이전 토큰(LEGACY_DEVICE)이면 newDeviceId 필드로 옮긴다.
+     */
+    public RotationResult rotate(Long userId, String presentedDeviceId, String newDeviceId,
+                                 String presentedToken, String newToken) {
+        String key = key(userId);
+        List<byte[]> args = rotateArgs(presentedDeviceId, newDeviceId, presentedToken, newToken,
+                System.currentTimeMillis());
+
+        if (isMissingInNearCache(key, presentedDeviceId)) {
+            return RotationResult.MISSING;
+        }
+
+        RotationResult result = RotationResult.from(
+                refreshTokenRedisTemplate.execute(ROTATE_SCRIPT, List.of(key), args.toArray()));
+        afterRotate(key, result);
+        return result;
+    }
+
+    /**
+     * 만료되지 않은 세션 목록. 오래된 순으로 정렬한다.
+     */
+    public List<Session> sessions(Long userId) {
+        long now = System.currentTimeMillis();
+        List<?> result = refreshTokenRedisTemplate.execute(LIST_SCRIPT, List.of(key(userId)), ascii(String.valueOf(now)));
+        return parseSessions(result, now);
+    }
+
+    // 한 기기만 로그아웃
+    public void delete(Long userId, String deviceId) {
+        refreshTokenRedisTemplate.opsForHash().delete(key(userId), deviceId);
+        evict(key(userId));
+    }
+
+    // 모든 기기 로그아웃
+    public void deleteAll(Long userId) {
+        refreshTokenRedisTemplate.delete(key(userId));
+        evict(key(userId));
+    }
+
+    /**
+     * 캐시된 해시에 이 기기의 필드가 없으면 true. 캐시에 없거나 필드가 있으면 스크립트가 판단하도록 false.
+     * 캐시는 재발급에 실패한 키만 담고 이 노드가 쓴 키는 바로 지우므로, 정상 사용자의 재발급이 여기서 거절되지 않는다.
+     */
+    boolean isMissingInNearCache(String key, String deviceId) {
+        if (nearCache == null) {
+            return false;
+        }
+        RedisNearCache.CachedHash cached = nearCache.peekHash(key);
+        return cached != null && cached.get(deviceId) == null;
+    }
+
+    // 교체 스크립트 실행 후 near-cache 정리. ReactiveRefreshTokenStore 도 같은 처리를 한다.
+    void afterRotate(String key, RotationResult result) {
+        if (result == RotationResult.MISSING) {
+            // 같은 토큰이 다시 오면 Redis 까지 가지 않도록 캐시에 채워 둔다.
+            if (nearCache != null) {
+                nearCache.prefetchHash(key);
+            }
+        } else {
+            evict(key);
+        }
+    }
+
+    // 다른 노드의 쓰기는 서버의 무효화 메시지로 지워지고, 이 노드의 쓰기는 메시지를 기다리지 않고 지운다.
+    void evict(String key) {
+        if (nearCache != null) {
+            nearCache.evict(key);
+        }
+    }
+
+    /**
+     * Redis 에 저장되는 값. compact 모드면 digest, 아니면 이전과 같은 JSON 문자열.
+     */
+    byte[] storedValue(String refreshToken) {
+        return compactStorage ? digest(refreshToken) : LEGACY_SERIALIZER.serialize(refreshToken);
+    }
+
+    // SAVE_SCRIPT 의 ARGV 순서: 기기 ID, 새 토큰, 현재 시각, 토큰 수명, 최대 기기 수
+    List<byte[]> saveArgs(String deviceId, String refreshToken, long now) {
+        return List.of(
+                ascii(deviceId),
+                storedValue(refreshToken),
+                ascii(String.valueOf(now)),
+                ascii(String.valueOf(TokenType.REFRESH.getLifeTime())),
+                ascii(String.valueOf(maxDevices))
+        );
+    }
+
+    // ROTATE_SCRIPT 의 ARGV 순서: 제시한 기기 ID, 새 기기 ID, 제시한 토큰, 제시한 토큰의 이전 JSON 형식, 새 토큰, 현재 시각
+    List<byte[]> rotateArgs(String presentedDeviceId, String newDeviceId, String presentedToken, String newToken, long now) {
+        return List.of(
+                ascii(presentedDeviceId),
+                ascii(newDeviceId),
+                storedValue(presentedToken),
+                LEGACY_SERIALIZER.serialize(presentedToken),
+                storedValue(newToken),
+                ascii(String.valueOf(now))
+        );
+    }
+
+    // LIST_SCRIPT 결과: 기기 ID, 만료 시각(ms) 이 번갈아 온다.
+    static List<Session> parseSessions(List<?> result, long now) {
+        List<Session> sessions = new ArrayList<>();
+        if (result == null) {
+            return sessions;
+        }
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            String deviceId = new String((byte[]) result.get(i), StandardCharsets.US_ASCII);
+            long expiresAt = Long.parseLong(new String((byte[]) result.get(i + 1), StandardCharsets.US_ASCII));
+            if (expiresAt > now) {
+                sessions.add(new Session(deviceId, expiresAt));
+            }
+        }
+        sessions.sort(Comparator.comparingLong(Session::expiresAt));
+        return sessions;
+    }
+
+    /**
+     * 새 기기 ID. 클라이언트가 기기 ID 를 보내지 않으면 로그인마다 새로 만든다.
+     */
+    public static String newDeviceId() {
+        byte[] bytes = new byte[12];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static String key(Long userId) {
+        return JwtUtil.REDIS_REFRESH_TOKEN_PREFIX + userId;
+    }
+
+    static byte[] digest(String refreshToken) {
+        return SHA_256.get().digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 기기 하나의 리프레시 세션. 만료 시각은 로그인 시각 + 리프레시 토큰 수명이므로 오래된 순서와 같다.
+     */
+    public record Session(String deviceId, long expiresAt) {
+    }
+
+    public enum RotationResult {
+        ROTATED,
+        MISSING,
+        MISMATCH;
+
+        static RotationResult from(Long scriptResult) {
+            if (scriptResult == null || scriptResult == 0L) {
+                return MISSING;
+            }
+            return scriptResult > 0 ? ROTATED : MISMATCH;
+        }
+    }
+}
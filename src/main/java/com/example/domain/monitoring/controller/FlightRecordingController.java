@@ -0,0 +1,40 @@
+package com.example.domain.monitoring.controller;
+
+import com.example.common.monitoring.jfr.AuthFlightRecorder;
+import com.example.domain.enums.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/jfr")
+@Secured(UserRole.Authority.ADMIN)
+@ConditionalOnProperty(name = "monitoring.jfr.enabled", havingValue = "true")
+public class FlightRecordingController {
+
+    private final AuthFlightRecorder authFlightRecorder;
+
+    // 연속 레코딩을 파일로 떠서 내려준다. 파일은 서버의 dump-dir 에도 남는다. (JDK Mission Control 로 열기)
+    @PostMapping("/dump")
+    public ResponseEntity<Resource> dump() throws IOException {
+        Path file = authFlightRecorder.dump();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+                .body(new FileSystemResource(file));
+    }
+}
@@ -1,16 +1,58 @@
 package com.example.domain.repository;
 
 import com.example.domain.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+// 조회 메서드는 readOnly 트랜잭션으로 실행되어 레플리카가 설정되어 있으면 레플리카에서 읽는다.
 @Repository
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByNickname(String nickname);
 
+    boolean existsByUsername(String username);
+
     Optional<User> findByUsername(String nickname);
 
+    // 다른 요청이 그 사이에 비밀번호를 바꿨다면 덮어쓰지 않는다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("select u.nickname from User u where u.nickname in :nicknames")
+    List<String> findExistingNicknames(@Param("nicknames") Collection<String> nicknames);
+
+    // 가입 중복 검사 필터 구축용. 엔티티 대신 두 컬럼만, MySQL 스트리밍 결과셋으로 읽는다. (트랜잭션 안에서 사용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u.username as username, u.nickname as nickname from User u")
+    Stream<UserIdentity> streamIdentities();
+
+    interface UserIdentity {
+        String getUsername();
+
+        String getNickname();
+    }
+
 }
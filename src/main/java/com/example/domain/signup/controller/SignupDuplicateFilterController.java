@@ -0,0 +1,34 @@
+package com.example.domain.signup.controller;
+
+import com.example.common.ApiResponse;
+import com.example.domain.enums.UserRole;
+import com.example.domain.signup.dto.response.SignupDuplicateFilterStats;
+import com.example.domain.signup.service.SignupDuplicateFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/signup-filter")
+@Secured(UserRole.Authority.ADMIN)
+public class SignupDuplicateFilterController {
+
+    private final SignupDuplicateFilter signupDuplicateFilter;
+
+    @GetMapping
+    public ApiResponse<SignupDuplicateFilterStats> stats() {
+        return ApiResponse.ok("가입 중복 검사 필터 상태입니다.", signupDuplicateFilter.getStats());
+    }
+
+    @PostMapping("/rebuild")
+    public ApiResponse<SignupDuplicateFilterStats> rebuild() {
+        if (!signupDuplicateFilter.rebuild()) {
+            return ApiResponse.ok("이미 재구축 중입니다.", signupDuplicateFilter.getStats());
+        }
+        return ApiResponse.ok("가입 중복 검사 필터를 재구축했습니다.", signupDuplicateFilter.getStats());
+    }
+}
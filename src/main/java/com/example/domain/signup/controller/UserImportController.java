@@ -0,0 +1,34 @@
+package com.example.domain.signup.controller;
+
+import com.example.common.ApiResponse;
+import com.example.domain.enums.UserRole;
+import com.example.domain.signup.dto.response.UserImportResponse;
+import com.example.domain.signup.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/users")
+@Secured(UserRole.Authority.ADMIN)
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    // 본문은 text/csv (username,password,nickname[,userRole]) 또는 application/x-ndjson
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ApiResponse<UserImportResponse> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                       InputStream body) throws IOException {
+        UserImportResponse response = userImportService.importUsers(body, UserImportService.Format.from(contentType));
+        return ApiResponse.ok("사용자 가져오기가 완료되었습니다.", response);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.domain.signup.dto.request;
+
+import com.example.domain.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 가져오기의 한 줄. CSV 는 username,password,nickname[,userRole] 순서.
+ * password 가 BCrypt 해시($2a$...)면 다시 해싱하지 않고 그대로 저장한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRow {
+
+    private String username;
+    private String password;
+    private String nickname;
+    private UserRole userRole;
+}
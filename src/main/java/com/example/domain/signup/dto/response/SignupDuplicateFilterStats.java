@@ -0,0 +1,21 @@
+package com.example.domain.signup.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SignupDuplicateFilterStats {
+
+    private boolean built;
+    private boolean rebuilding;
+    private long entries;
+    private long memoryBytes;
+    private double expectedFalsePositiveRate;
+    private double observedFalsePositiveRate;
+    private long skippedQueries;
+
+    public static SignupDuplicateFilterStats notBuilt(boolean rebuilding) {
+        return new SignupDuplicateFilterStats(false, rebuilding, 0, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.domain.signup.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class UserImportResponse {
+
+    private long total;
+    private long imported;
+    private long failed;
+    private long elapsedMillis;
+    private List<RowError> errors;
+    // 실패가 너무 많아 errors 에 일부만 담긴 경우 true
+    private boolean errorsTruncated;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String reason;
+    }
+}
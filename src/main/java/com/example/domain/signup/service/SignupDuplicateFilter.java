@@ -0,0 +1,198 @@
+package com.example.domain.signup.service;
+
+import com.example.common.BloomFilter;
+import com.example.common.ErrorStatus;
+import com.example.common.exception.ApiException;
+import com.example.domain.repository.UserRepository;
+import com.example.domain.signup.dto.response.SignupDuplicateFilterStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 가입 시 닉네임/아이디 중복 조회를 줄이기 위한 Bloom filter.
+ *
+ * 필터에 없다고 나오면 exists 쿼리를 생략한다. 필터가 아직 없거나(기동 직후) 있을 수 있다고 나오면
+ * 평소처럼 DB 를 조회한다. 최종 정합성은 users 테이블의 unique 인덱스가 보장한다.
+ */
+@Slf4j(topic = "Signup_Duplicate_Filter")
+@Component
+public class SignupDuplicateFilter {
+
+    private final UserRepository repository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final long minExpectedInsertions;
+
+    // 사용 중인 필터. 재구축 중에는 building 에도 함께 기록해 구축 중 가입한 사용자를 놓치지 않는다.
+    private volatile Filters current;
+    private volatile Filters building;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final Counter skippedQueries;
+    private final Counter falsePositives;
+    private final Counter truePositives;
+
+    public SignupDuplicateFilter(UserRepository repository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${signup.duplicate-filter.enabled:true}") boolean enabled,
+                                 @Value("${signup.duplicate-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${signup.duplicate-filter.min-expected-insertions:100000}") long minExpectedInsertions,
+                                 MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minExpectedInsertions = minExpectedInsertions;
+
+        this.skippedQueries = Counter.builder("signup.duplicate.filter.skipped")
+                .description("exists queries skipped because the filter answered definitely absent")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("signup.duplicate.filter.checks")
+                .tag("result", "false_positive")
+                .register(meterRegistry);
+        this.truePositives = Counter.builder("signup.duplicate.filter.checks")
+                .tag("result", "true_positive")
+                .register(meterRegistry);
+        Gauge.builder("signup.duplicate.filter.memory", this, f -> f.getStats().memoryBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("signup.duplicate.filter.expected.fpp", this, f -> f.getStats().expectedFalsePositiveRate())
+                .register(meterRegistry);
+    }
+
+    /**
+     * users 테이블 전체를 읽으므로 기동을 막지 않도록 별도 스레드에서 만든다. 그동안은 필터 없이 DB 를 조회한다.
+     * 진행 상태는 getStats() 의 rebuilding 으로 알 수 있다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (ApiException e) {
+                // rebuild 에서 이미 로그를 남겼다. 관리자 API 로 다시 시도할 수 있다.
+            }
+        }, "signup-filter-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * users 테이블을 스트리밍으로 읽어 새 필터를 만들고 교체한다. 구축 중에도 기존 필터로 계속 응답한다.
+     * 이미 재구축 중이면 false 를 돌려주고, 실패하면 SIGNUP_FILTER_REBUILD_FAILED 를 던진다.
+     */
+    public boolean rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            long started = System.nanoTime();
+            long expected = Math.max(minExpectedInsertions, repository.count() * 2);
+            Filters next = new Filters(BloomFilter.create(expected, falsePositiveRate),
+                    BloomFilter.create(expected, falsePositiveRate));
+            building = next;
+
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserRepository.UserIdentity> identities = repository.streamIdentities()) {
+                    identities.forEach(identity -> next.put(identity.getUsername(), identity.getNickname()));
+                }
+            });
+
+            current = next;
+            log.info("Signup duplicate filter built with {} users in {} ms ({} KiB)",
+                    next.usernames().insertions(), (System.nanoTime() - started) / 1_000_000,
+                    (next.usernames().memoryBytes() + next.nicknames().memoryBytes()) / 1024);
+            return true;
+        } catch (RuntimeException e) {
+            // 기존 필터(없으면 DB 조회)로 계속 동작하므로 가입에는 문제가 없다.
+            log.warn("Failed to build signup duplicate filter", e);
+            throw new ApiException(ErrorStatus.SIGNUP_FILTER_REBUILD_FAILED);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * false 면 확실히 사용 중이 아니다. true 면 DB 로 확인해야 한다.
+     */
+    public boolean mightContainNickname(String nickname) {
+        Filters filters = current;
+        if (filters == null || filters.nicknames().mightContain(nickname)) {
+            return true;
+        }
+        skippedQueries.increment();
+        return false;
+    }
+
+    public boolean mightContainUsername(String username) {
+        Filters filters = current;
+        if (filters == null || filters.usernames().mightContain(username)) {
+            return true;
+        }
+        skippedQueries.increment();
+        return false;
+    }
+
+    // 필터가 있을 수 있다고 했을 때 DB 조회 결과를 기록해 실제 오탐률을 잰다.
+    public void recordLookup(boolean exists) {
+        if (current == null) {
+            return;
+        }
+        (exists ? truePositives : falsePositives).increment();
+    }
+
+    public void put(String username, String nickname) {
+        Filters filters = current;
+        if (filters != null) {
+            filters.put(username, nickname);
+        }
+        Filters next = building;
+        if (next != null) {
+            next.put(username, nickname);
+        }
+    }
+
+    public SignupDuplicateFilterStats getStats() {
+        Filters filters = current;
+        if (filters == null) {
+            return SignupDuplicateFilterStats.notBuilt(rebuilding.get());
+        }
+        // 실제로 없는 값 중 "있을 수 있음" 으로 답한 비율 = 오탐 / (오탐 + 생략한 조회)
+        double absentChecks = falsePositives.count() + skippedQueries.count();
+        return new SignupDuplicateFilterStats(
+                true,
+                rebuilding.get(),
+                filters.usernames().insertions(),
+                filters.usernames().memoryBytes() + filters.nicknames().memoryBytes(),
+                filters.nicknames().expectedFalsePositiveRate(),
+                absentChecks == 0 ? 0 : falsePositives.count() / absentChecks,
+                (long) skippedQueries.count()
+        );
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter nicknames) {
+
+        void put(String username, String nickname) {
+            usernames.put(username);
+            nicknames.put(nickname);
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.example.domain.signup.service;
 
 import com.example.common.ErrorStatus;
 import com.example.common.exception.ApiException;
+import com.example.common.monitoring.AuthMetrics;
+import com.example.common.monitoring.AuthMetrics.Stage;
+import com.example.common.monitoring.jfr.AuthFlowEvent;
+import com.example.common.monitoring.jfr.SignupEvent;
 import com.example.domain.entity.User;
 import com.example.domain.enums.UserRole;
 import com.example.domain.signup.dto.request.SignupRequest;
@@ -9,49 +13,104 @@ import com.example.domain.signup.dto.response.SignupResponse;
 import com.example.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.regex.Pattern;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SignupService {
 
+    static final String PASSWORD_REGEX =
+            "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[!@#$%^&*(),.?\":{}|<>])[A-Za-z\\d!@#$%^&*(),.?\":{}|<>]{8,}$";
+
+    // String.matches 는 호출마다 정규식을 컴파일하므로 한 번만 컴파일해 둔다.
+    static final Pattern PASSWORD_PATTERN = Pattern.compile(PASSWORD_REGEX);
+
+    static final String USERNAME_UNIQUE_INDEX = "uk_users_username";
+
     private final UserRepository repository;
 
     private final PasswordEncoder passwordEncoder;
 
+    private final SignupDuplicateFilter signupDuplicateFilter;
+
+    private final AuthMetrics authMetrics;
+
     @Value("${admin.token}")
     private String adminToken;
     @Transactional
     public SignupResponse signup(SignupRequest request) {
+        return AuthFlowEvent.trace(new SignupEvent(), () -> doSignup(request));
+    }
 
+    private SignupResponse doSignup(SignupRequest request) {
         validatePassword(request.getPassword());
         UserRole userRole = validateAdminRole(request);
-        checkNicknameDuplicate(request.getNickname());
+        authMetrics.record(Stage.DUPLICATE_CHECK, () -> {
+            checkNicknameDuplicate(request.getNickname());
+            checkUsernameDuplicate(request.getUsername());
+        });
 
+        String encodedPassword = authMetrics.record(Stage.PASSWORD_ENCODE, () -> passwordEncoder.encode(request.getPassword()));
         User user = User.createUser(request.getUsername(),
                                     request.getNickname(),
-                                    passwordEncoder.encode(request.getPassword()),
+                                    encodedPassword,
                                     userRole);
-        User save = repository.save(user);
+        User save = authMetrics.record(Stage.USER_INSERT, () -> {
+            try {
+                // ID 를 미리 만들기 때문에 insert 가 커밋 시점으로 미뤄지지 않도록 바로 flush 한다.
+                return repository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                // 사전 검사와 저장 사이에 같은 값으로 가입한 경우. unique 인덱스가 최종적으로 막는다.
+                throw new ApiException(violatesUsernameIndex(e) ? ErrorStatus.DUPLICATE_USERNAME : ErrorStatus.DUPLICATE_NICKNAME);
+            }
+        });
+        AuthFlowEvent.recordUserId(save.getId());
+        signupDuplicateFilter.put(save.getUsername(), save.getNickname());
         return SignupResponse.signupResponse(save);
     }
 
     private void validatePassword(String password) {
-        if (!password.matches("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[!@#$%^&*(),.?\":{}|<>])[A-Za-z\\d!@#$%^&*(),.?\":{}|<>]{8,}$")) {
+        if (!PASSWORD_PATTERN.matcher(password).matches()) {
             throw new ApiException(ErrorStatus.INVALID_REQUEST);
         }
     }
 
     private void checkNicknameDuplicate(String nickname) {
-        if (repository.existsByNickname(nickname)) {
+        // 필터에 확실히 없으면 DB 조회 생략
+        if (!signupDuplicateFilter.mightContainNickname(nickname)) {
+            return;
+        }
+        boolean exists = repository.existsByNickname(nickname);
+        signupDuplicateFilter.recordLookup(exists);
+        if (exists) {
             throw new ApiException(ErrorStatus.DUPLICATE_NICKNAME);
         }
     }
 
+    private void checkUsernameDuplicate(String username) {
+        if (!signupDuplicateFilter.mightContainUsername(username)) {
+            return;
+        }
+        boolean exists = repository.existsByUsername(username);
+        signupDuplicateFilter.recordLookup(exists);
+        if (exists) {
+            throw new ApiException(ErrorStatus.DUPLICATE_USERNAME);
+        }
+    }
+
+    // 위반한 인덱스 이름은 MySQL 오류 메시지에 담겨 온다. (V1__Create_users.sql)
+    private static boolean violatesUsernameIndex(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(USERNAME_UNIQUE_INDEX);
+    }
+
     private UserRole validateAdminRole(SignupRequest request) {
         // 요청된 역할이 ROLE_ADMIN인지 확인
         if (request.getUserRole() == UserRole.ROLE_ADMIN) {
@@ -0,0 +1,369 @@
+package com.example.domain.signup.service;
+
+import com.example.domain.entity.User;
+import com.example.domain.enums.UserRole;
+import com.example.domain.repository.UserRepository;
+import com.example.domain.signup.dto.request.UserImportRow;
+import com.example.domain.signup.dto.response.UserImportResponse;
+import com.example.security.BoundedPasswordEncoder;
+import com.example.security.CalibratedBCryptPasswordEncoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관리자용 사용자 일괄 가져오기.
+ *
+ * 요청 본문을 한 줄씩 읽어 chunk 단위로 검증 → 병렬 해싱 → 배치 insert 한다.
+ * 전체 파일을 메모리에 올리지 않으며, 실패한 줄은 줄 번호와 사유를 남기고 건너뛴다.
+ */
+@Slf4j(topic = "User_Import")
+@Service
+public class UserImportService implements DisposableBean {
+
+    private static final String PROCESSING_ERROR = "처리 중 오류가 발생했습니다.";
+
+    private final UserRepository repository;
+
+    // 로그인 트래픽용 해싱 풀을 점유하지 않도록 원래 인코더를 전용 풀에서 호출한다.
+    private final PasswordEncoder hashingEncoder;
+
+    private final SignupDuplicateFilter signupDuplicateFilter;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService hashingExecutor;
+
+    private final int chunkSize;
+
+    private final int maxReportedErrors;
+
+    public UserImportService(UserRepository repository,
+                             BoundedPasswordEncoder passwordEncoder,
+                             SignupDuplicateFilter signupDuplicateFilter,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             @Value("${user-import.chunk-size:1000}") int chunkSize,
+                             @Value("${user-import.hashing-threads:0}") int hashingThreads,
+                             @Value("${user-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.repository = repository;
+        this.hashingEncoder = passwordEncoder.getDelegate();
+        this.signupDuplicateFilter = signupDuplicateFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+
+        // threads 가 0 이면 CPU 코어 수만큼 사용
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashingExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public UserImportResponse importUsers(InputStream body, Format format) throws IOException {
+        long started = System.nanoTime();
+        Report report = new Report(maxReportedErrors);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!StringUtils.hasText(line) || (lineNumber == 1 && format == Format.CSV && isCsvHeader(line))) {
+                continue;
+            }
+            report.total++;
+            try {
+                chunk.add(new Row(lineNumber, parse(line, format)));
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                report.fail(lineNumber, "형식이 올바르지 않습니다.");
+                continue;
+            }
+            if (chunk.size() >= chunkSize) {
+                processChunk(chunk, report);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, report);
+        }
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Imported {} of {} users in {} ms", report.imported, report.total, elapsedMillis);
+        return report.toResponse(elapsedMillis);
+    }
+
+    private void processChunk(List<Row> chunk, Report report) {
+        List<Row> valid = validate(chunk, report);
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        // BCrypt 해시가 아닌 비밀번호만 병렬로 해싱
+        List<CompletableFuture<User>> futures = valid.stream()
+                .map(row -> CompletableFuture.supplyAsync(() -> toUser(row.data()), hashingExecutor))
+                .toList();
+        List<Row> rows = new ArrayList<>(valid.size());
+        List<User> users = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            try {
+                users.add(futures.get(i).join());
+                rows.add(valid.get(i));
+            } catch (CompletionException | CancellationException e) {
+                log.warn("Failed to prepare user of line {}", valid.get(i).line(), e);
+                report.fail(valid.get(i).line(), PROCESSING_ERROR);
+            }
+        }
+        if (users.isEmpty()) {
+            return;
+        }
+
+        try {
+            // hibernate.jdbc.batch_size 단위로 묶여 insert 된다.
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.saveAll(users);
+                repository.flush();
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 가져오는 사이 같은 값으로 가입한 사용자가 있으면 한 건씩 다시 저장해 실패한 줄을 찾는다.
+            insertOneByOne(rows, users, report);
+            return;
+        } catch (RuntimeException e) {
+            // 그 밖의 오류도 가져오기 전체를 멈추지 않고, 한 건씩 다시 저장해 줄마다 결과를 남긴다.
+            log.warn("Batch insert of {} users failed, retrying one by one", users.size(), e);
+            insertOneByOne(rows, users, report);
+            return;
+        }
+        users.forEach(user -> signupDuplicateFilter.put(user.getUsername(), user.getNickname()));
+        report.imported += users.size();
+    }
+
+    private void insertOneByOne(List<Row> rows, List<User> users, Report report) {
+        for (int i = 0; i < rows.size(); i++) {
+            User user = users.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> repository.saveAndFlush(copyOf(user)));
+            } catch (DataIntegrityViolationException e) {
+                report.fail(rows.get(i).line(), "이미 사용 중인 아이디 또는 닉네임입니다.");
+                continue;
+            } catch (RuntimeException e) {
+                log.warn("Failed to insert user of line {}", rows.get(i).line(), e);
+                report.fail(rows.get(i).line(), PROCESSING_ERROR);
+                continue;
+            }
+            signupDuplicateFilter.put(user.getUsername(), user.getNickname());
+            report.imported++;
+        }
+    }
+
+    private List<Row> validate(List<Row> chunk, Report report) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+        List<Row> candidates = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            String reason = validateRow(row.data());
+            if (reason == null && !usernames.add(row.data().getUsername())) {
+                reason = "파일 안에 같은 아이디가 있습니다.";
+            }
+            if (reason == null && !nicknames.add(row.data().getNickname())) {
+                reason = "파일 안에 같은 닉네임이 있습니다.";
+            }
+            if (reason != null) {
+                report.fail(row.line(), reason);
+                continue;
+            }
+            candidates.add(row);
+        }
+
+        // 필터에 있을 수 있는 값만 DB 에서 한 번에 확인
+        Set<String> existingUsernames;
+        Set<String> existingNicknames;
+        try {
+            existingUsernames = new HashSet<>(queryExisting(
+                    candidates.stream().map(row -> row.data().getUsername())
+                            .filter(signupDuplicateFilter::mightContainUsername).toList(), true));
+            existingNicknames = new HashSet<>(queryExisting(
+                    candidates.stream().map(row -> row.data().getNickname())
+                            .filter(signupDuplicateFilter::mightContainNickname).toList(), false));
+        } catch (RuntimeException e) {
+            // 중복을 확인할 수 없는 chunk 는 실패로 남기고 다음 chunk 를 계속 처리한다.
+            log.warn("Failed to check existing users for {} rows", candidates.size(), e);
+            candidates.forEach(row -> report.fail(row.line(), PROCESSING_ERROR));
+            return List.of();
+        }
+
+        List<Row> valid = new ArrayList<>(candidates.size());
+        for (Row row : candidates) {
+            if (existingUsernames.contains(row.data().getUsername())) {
+                report.fail(row.line(), "이미 사용 중인 아이디입니다.");
+            } else if (existingNicknames.contains(row.data().getNickname())) {
+                report.fail(row.line(), "이미 사용 중인 닉네임입니다.");
+            } else {
+                valid.add(row);
+            }
+        }
+        return valid;
+    }
+
+    private List<String> queryExisting(List<String> values, boolean usernames) {
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        return usernames ? repository.findExistingUsernames(values) : repository.findExistingNicknames(values);
+    }
+
+    private static String validateRow(UserImportRow row) {
+        if (!StringUtils.hasText(row.getUsername()) || !StringUtils.hasText(row.getNickname())
+                || !StringUtils.hasText(row.getPassword())) {
+            return "아이디, 비밀번호, 닉네임은 필수입니다.";
+        }
+        if (row.getUsername().length() > 150) {
+            return "아이디가 너무 깁니다.";
+        }
+        if (!isHashed(row.getPassword()) && !SignupService.PASSWORD_PATTERN.matcher(row.getPassword()).matches()) {
+            return "비밀번호 형식이 올바르지 않습니다.";
+        }
+        return null;
+    }
+
+    private User toUser(UserImportRow row) {
+        String password = isHashed(row.getPassword()) ? row.getPassword() : hashingEncoder.encode(row.getPassword());
+        UserRole userRole = row.getUserRole() != null ? row.getUserRole() : UserRole.ROLE_USER;
+        return User.createUser(row.getUsername(), row.getNickname(), password, userRole);
+    }
+
+    // 실패한 트랜잭션에서 ID 가 채워진 엔티티를 다시 쓰지 않도록 새로 만든다.
+    private static User copyOf(User user) {
+        return User.createUser(user.getUsername(), user.getNickname(), user.getPassword(), user.getUserRole());
+    }
+
+    // 다른 시스템에서 옮겨오는 BCrypt 해시는 그대로 저장하고, cost 가 노드의 cost 보다 낮으면 로그인 시 그 cost 로 재해싱된다.
+    private static boolean isHashed(String password) {
+        return CalibratedBCryptPasswordEncoder.costOf(password) > 0;
+    }
+
+    private UserImportRow parse(String line, Format format) throws JsonProcessingException {
+        if (format == Format.NDJSON) {
+            return objectMapper.readValue(line, UserImportRow.class);
+        }
+        List<String> columns = parseCsvLine(line);
+        if (columns.size() < 3 || columns.size() > 4) {
+            throw new IllegalArgumentException("Expected 3 or 4 columns but got " + columns.size());
+        }
+        UserRole userRole = columns.size() == 4 && StringUtils.hasText(columns.get(3))
+                ? UserRole.of(columns.get(3).trim())
+                : null;
+        return new UserImportRow(columns.get(0).trim(), columns.get(1), columns.get(2).trim(), userRole);
+    }
+
+    private static boolean isCsvHeader(String line) {
+        return line.trim().toLowerCase().startsWith("username,");
+    }
+
+    // RFC 4180 한 줄 (따옴표 안의 쉼표와 "" 이스케이프 지원, 줄바꿈은 미지원)
+    static List<String> parseCsvLine(String line) {
+        List<String> columns = new ArrayList<>(4);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quote");
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+
+    @Override
+    public void destroy() {
+        hashingExecutor.shutdown();
+    }
+
+    public enum Format {
+        CSV,
+        NDJSON;
+
+        public static Format from(MediaType contentType) {
+            if (contentType != null && "x-ndjson".equalsIgnoreCase(contentType.getSubtype())) {
+                return NDJSON;
+            }
+            return CSV;
+        }
+    }
+
+    private record Row(long line, UserImportRow data) {
+    }
+
+    private static final class Report {
+        private final int maxErrors;
+        private final List<UserImportResponse.RowError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+
+        private Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void fail(long line, String reason) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new UserImportResponse.RowError(line, reason));
+            }
+        }
+
+        private UserImportResponse toResponse(long elapsedMillis) {
+            return new UserImportResponse(total, imported, failed, elapsedMillis, errors, failed > errors.size());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.domain.user.dto;
+
+import com.example.domain.entity.User;
+import com.example.domain.enums.UserRole;
+
+import java.io.Serializable;
+
+/**
+ * 로그인/재발급에 필요한 사용자 필드만 담은 캐시용 불변 객체.
+ * 영속성 컨텍스트와 무관하므로 트랜잭션 밖이나 다른 노드(Redis 공유 캐시)에서도 안전하게 쓸 수 있다.
+ */
+public record UserSnapshot(
+        Long id,
+        String username,
+        String nickname,
+        String password,
+        UserRole userRole
+) implements Serializable {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getUsername(),
+                user.getNickname(),
+                user.getPassword(),
+                user.getUserRole()
+        );
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.domain.user.service;
+
+import com.example.domain.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 엔티티가 수정/삭제되면 사용자 캐시를 지운다.
+ *
+ * flush 시점에 한 번, 커밋 후에 한 번 더 지운다. 커밋 전에 다른 요청이 이전 값을 다시 캐싱해도
+ * 커밋 후 무효화로 정리된다. 새로 저장된 사용자는 캐시에 없으므로 지울 것이 없다.
+ * JPQL 벌크 업데이트는 엔티티 리스너를 거치지 않으므로 호출한 쪽에서 UserLookupService.evict 를 부른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictionListener {
+
+    // 엔티티 매니저 팩토리 생성 중에 만들어지므로 리포지토리에 의존하는 서비스는 나중에 꺼낸다.
+    private final ObjectProvider<UserLookupService> userLookupService;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(User user) {
+        Long id = user.getId();
+        userLookupService.getObject().evict(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userLookupService.getObject().evict(id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.domain.user.service;
+
+import com.example.config.CacheConfig;
+import com.example.domain.entity.User;
+import com.example.domain.repository.UserRepository;
+import com.example.domain.user.dto.UserSnapshot;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 인증 흐름의 사용자 조회를 캐시를 거쳐 처리한다.
+ *
+ * users 캐시는 id -> UserSnapshot, userIds 캐시는 username -> id 이다.
+ * username 은 바뀌지 않으므로 무효화는 users 캐시의 id 만 지우면 된다.
+ * 존재하지 않는 사용자는 캐싱하지 않으므로 가입 직후에도 바로 조회된다.
+ */
+@Service
+public class UserLookupService {
+
+    private final UserRepository repository;
+
+    private final Cache users;
+
+    private final Cache userIds;
+
+    public UserLookupService(UserRepository repository, CacheManager cacheManager) {
+        this.repository = repository;
+        this.users = cacheManager.getCache(CacheConfig.USERS);
+        this.userIds = cacheManager.getCache(CacheConfig.USER_IDS);
+    }
+
+    public Optional<UserSnapshot> findById(Long id) {
+        UserSnapshot cached = users.get(usersKey(id), UserSnapshot.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return repository.findById(id).map(this::cache);
+    }
+
+    public Optional<UserSnapshot> findByUsername(String username) {
+        Long id = userIds.get(username, Long.class);
+        if (id != null) {
+            UserSnapshot cached = users.get(usersKey(id), UserSnapshot.class);
+            if (cached != null && cached.username().equals(username)) {
+                return Optional.of(cached);
+            }
+        }
+        return repository.findByUsername(username).map(this::cache);
+    }
+
+    public void evict(Long id) {
+        users.evict(usersKey(id));
+    }
+
+    private UserSnapshot cache(User user) {
+        UserSnapshot snapshot = UserSnapshot.from(user);
+        users.put(usersKey(user.getId()), snapshot);
+        userIds.put(user.getUsername(), user.getId());
+        return snapshot;
+    }
+
+    // 노드 간 무효화 메시지가 문자열이므로 키도 문자열로 통일한다.
+    private static String usersKey(Long id) {
+        return String.valueOf(id);
+    }
+}
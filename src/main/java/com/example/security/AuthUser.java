@@ -6,6 +6,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 @Getter
@@ -15,12 +16,25 @@ public class AuthUser {
     private final String email;
     private final String userName;
     private final UserRole userRole;
+    // 로그아웃 시 무효화 목록에 올릴 토큰 ID(jti)와 만료 시각. jti 가 없는 이전 토큰이면 null
+    private final String tokenId;
+    private final Date expiresAt;
+    // 토큰을 발급받은 기기(did). 기기별 세션 이전의 토큰이면 null
+    private final String deviceId;
 
     public AuthUser(Long userId, String email, String userName, UserRole userRole) {
+        this(userId, email, userName, userRole, null, null, null);
+    }
+
+    public AuthUser(Long userId, String email, String userName, UserRole userRole,
+                    String tokenId, Date expiresAt, String deviceId) {
         this.userId = userId;
         this.email = email;
         this.userName = userName;
         this.userRole = userRole;
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+        this.deviceId = deviceId;
     }
 
     public Collection<? extends GrantedAuthority> getAuthorities() {
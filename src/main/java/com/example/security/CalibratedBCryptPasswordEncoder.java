@@ -0,0 +1,82 @@
+package com.example.security;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기동 시 측정한 해싱 시간으로 cost 를 정하는 BCryptPasswordEncoder.
+ * 저장된 해시의 cost 가 이 노드의 cost 보다 낮을 때만 upgradeEncoding 이 true 를 돌려준다. (올리기만 한다)
+ * 측정된 cost 는 노드마다 다를 수 있지만 더 높은 cost 의 해시는 그대로 두므로, 해시는 노드 중 가장 높은 cost 까지
+ * 한 번씩만 올라가고 내려가지 않는다.
+ */
+@Slf4j(topic = "Password_Hashing")
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}$");
+
+    private static final String CALIBRATION_PASSWORD = "Calibration-Password-1!";
+
+    @Getter
+    private final int cost;
+
+    public CalibratedBCryptPasswordEncoder(int cost) {
+        super(cost);
+        this.cost = cost;
+    }
+
+    /**
+     * minCost 부터 cost 를 하나씩 올리며 해싱 시간을 재고, targetMillis 를 넘지 않는 가장 높은 cost 를 고른다.
+     * 가장 낮은 minCost 조차 목표를 넘으면 minCost 를 사용한다.
+     */
+    public static CalibratedBCryptPasswordEncoder calibrate(long targetMillis, int minCost, int maxCost) {
+        // JIT 워밍업
+        new BCryptPasswordEncoder(minCost).encode(CALIBRATION_PASSWORD);
+
+        long targetNanos = targetMillis * 1_000_000;
+        int selected = minCost;
+        long selectedNanos = 0;
+        for (int cost = minCost; cost <= maxCost; cost++) {
+            long elapsedNanos = measure(cost);
+            if (elapsedNanos > targetNanos && cost > minCost) {
+                break;
+            }
+            selected = cost;
+            selectedNanos = elapsedNanos;
+            // 다음 cost 는 시간이 두 배가 되므로 목표를 넘을 것이 확실하면 측정하지 않는다.
+            if (elapsedNanos * 2 > targetNanos) {
+                break;
+            }
+        }
+        log.info("BCrypt cost calibrated to {} ({} ms per hash, target {} ms, range {}-{})",
+                selected, selectedNanos / 1_000_000, targetMillis, minCost, maxCost);
+        return new CalibratedBCryptPasswordEncoder(selected);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedCost = costOf(encodedPassword);
+        return storedCost > 0 && storedCost < cost;
+    }
+
+    /**
+     * BCrypt 해시의 cost. BCrypt 해시가 아니면 -1.
+     */
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    private static long measure(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long start = System.nanoTime();
+        encoder.encode(CALIBRATION_PASSWORD);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,403 @@
+package com.example.security;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * 우리 서비스가 발급한 HS256 토큰 전용 검증기.
+ * 스레드마다 Mac 을 재사용하고, base64url 을 바이트에서 직접 디코딩하며,
+ * 알려진 Claim 만 페이로드에서 바로 읽어 Map 기반 Claims 를 만들지 않는다.
+ *
+ * <p>판단할 수 없는 토큰(다른 헤더, 서명 불일치, 만료, 예상하지 못한 JSON 등)은 null 을 돌려주고,
+ * 호출부는 jjwt 경로로 다시 검증해 jjwt 와 동일한 예외를 받는다.
+ */
+final class Hs256TokenVerifier {
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+
+    // jjwt 가 HS256 키로 서명할 때 만드는 헤더 {"alg":"HS256"} 의 base64url 인코딩
+    private static final byte[] EXPECTED_HEADER = "eyJhbGciOiJIUzI1NiJ9".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int SIGNATURE_LENGTH = 32;
+
+    private static final byte[] BASE64_URL = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final ThreadLocal<Mac> macs;
+
+    private Hs256TokenVerifier(SecretKey key) {
+        SecretKeySpec keySpec = new SecretKeySpec(key.getEncoded(), HMAC_SHA256);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_SHA256);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Failed to initialize HmacSHA256", e);
+            }
+        });
+    }
+
+    /**
+     * jjwt 가 이 키로 HS256 을 선택하는 경우(256~383 비트 키)에만 검증기를 만든다.
+     * 더 긴 키는 jjwt 가 HS384/HS512 로 서명하므로 null 을 돌려준다.
+     */
+    static Hs256TokenVerifier forKey(SecretKey key) {
+        int bitLength = key.getEncoded().length * 8;
+        if (bitLength < 256 || bitLength >= 384) {
+            return null;
+        }
+        return new Hs256TokenVerifier(key);
+    }
+
+    ParsedToken verify(String token) {
+        int length = token.length();
+        byte[] bytes = new byte[length];
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c >= 128) {
+                return null;
+            }
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return null;
+                }
+            }
+            bytes[i] = (byte) c;
+        }
+        if (firstDot < 0 || secondDot < 0) {
+            return null;
+        }
+
+        // 1. 헤더: 우리가 발급하는 형태와 정확히 같아야 한다.
+        if (!Arrays.equals(bytes, 0, firstDot, EXPECTED_HEADER, 0, EXPECTED_HEADER.length)) {
+            return null;
+        }
+
+        // 2. 서명: 헤더.페이로드 바이트에 대해 HMAC 을 계산하고 상수 시간 비교
+        byte[] signature = decodeBase64Url(bytes, secondDot + 1, length);
+        if (signature == null || signature.length != SIGNATURE_LENGTH) {
+            return null;
+        }
+        Mac mac = macs.get();
+        mac.update(bytes, 0, secondDot);
+        if (!MessageDigest.isEqual(mac.doFinal(), signature)) {
+            return null;
+        }
+
+        // 3. 페이로드: 알려진 Claim 만 읽는다.
+        byte[] payload = decodeBase64Url(bytes, firstDot + 1, secondDot);
+        if (payload == null) {
+            return null;
+        }
+        PayloadReader reader = new PayloadReader(payload);
+        if (!reader.read()) {
+            return null;
+        }
+
+        // 4. 만료/nbf 는 jjwt 가 예외를 만들도록 넘긴다.
+        if (reader.notBefore != null) {
+            return null;
+        }
+        Date expiration = reader.expiration == null ? null : new Date(reader.expiration * 1000);
+        if (expiration != null && new Date().after(expiration)) {
+            return null;
+        }
+        Date issuedAt = reader.issuedAt == null ? null : new Date(reader.issuedAt * 1000);
+
+        // compact 형식이면 jjwt 경로(ParsedToken.from)와 같이 짧은 Claim 만 사용한다.
+        if (reader.compactCategory != null) {
+            String category = ParsedToken.nameOf(ParsedToken.TOKEN_TYPES, reader.compactCategory);
+            String userRole = reader.compactUserRole == null
+                    ? null : ParsedToken.nameOf(ParsedToken.USER_ROLES, reader.compactUserRole);
+            if (category == null || (reader.compactUserRole != null && userRole == null)) {
+                return null;
+            }
+            return new ParsedToken(reader.subject, reader.tokenId, category, issuedAt, expiration,
+                    reader.compactNickname, reader.compactUserName, userRole, reader.deviceId);
+        }
+        return new ParsedToken(reader.subject, reader.tokenId, reader.category, issuedAt, expiration,
+                reader.nickname, reader.userName, reader.userRole, reader.deviceId);
+    }
+
+    static byte[] decodeBase64Url(byte[] src, int from, int to) {
+        int length = to - from;
+        if (length % 4 == 1) {
+            return null;
+        }
+        byte[] out = new byte[length * 3 / 4];
+        int outPos = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            byte c = src[i];
+            if (c < 0) {
+                return null;
+            }
+            int value = BASE64_URL[c];
+            if (value < 0) {
+                return null;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[outPos++] = (byte) (bits >> bitCount);
+            }
+        }
+        return outPos == out.length ? out : Arrays.copyOf(out, outPos);
+    }
+
+    /**
+     * 중첩이 없는 JSON 객체에서 문자열/정수 값만 읽는 최소 파서.
+     * 그 외 형태(배열, 객체, 실수, true/false/null)를 만나면 실패를 돌려준다.
+     */
+    private static final class PayloadReader {
+
+        private final byte[] json;
+        private int pos;
+
+        private String subject;
+        private String tokenId;
+        private String category;
+        private String nickname;
+        private String userName;
+        private String userRole;
+        private String deviceId;
+        private Long compactCategory;
+        private String compactNickname;
+        private String compactUserName;
+        private Long compactUserRole;
+        private Long expiration;
+        private Long issuedAt;
+        private Long notBefore;
+
+        private PayloadReader(byte[] json) {
+            this.json = json;
+        }
+
+        private boolean read() {
+            skipWhitespace();
+            if (!consume('{')) {
+                return false;
+            }
+            skipWhitespace();
+            if (consume('}')) {
+                return atEnd();
+            }
+            while (true) {
+                skipWhitespace();
+                String name = readString();
+                if (name == null) {
+                    return false;
+                }
+                skipWhitespace();
+                if (!consume(':')) {
+                    return false;
+                }
+                skipWhitespace();
+                if (!readValue(name)) {
+                    return false;
+                }
+                skipWhitespace();
+                if (consume(',')) {
+                    continue;
+                }
+                return consume('}') && atEnd();
+            }
+        }
+
+        private boolean readValue(String name) {
+            if (pos >= json.length) {
+                return false;
+            }
+            if (json[pos] == '"') {
+                String value = readString();
+                if (value == null) {
+                    return false;
+                }
+                switch (name) {
+                    case "sub" -> subject = value;
+                    case "jti" -> tokenId = value;
+                    case ParsedToken.CATEGORY_CLAIM -> category = value;
+                    case ParsedToken.NICKNAME_CLAIM -> nickname = value;
+                    case ParsedToken.USER_NAME_CLAIM -> userName = value;
+                    case ParsedToken.USER_ROLE_CLAIM -> userRole = value;
+                    case ParsedToken.DEVICE_ID_CLAIM -> deviceId = value;
+                    case ParsedToken.COMPACT_NICKNAME_CLAIM -> compactNickname = value;
+                    case ParsedToken.COMPACT_USER_NAME_CLAIM -> compactUserName = value;
+                    case "exp", "iat", "nbf", ParsedToken.COMPACT_CATEGORY_CLAIM, ParsedToken.COMPACT_USER_ROLE_CLAIM -> {
+                        return false;
+                    }
+                    default -> {
+                    }
+                }
+                return true;
+            }
+            Long number = readLong();
+            if (number == null) {
+                return false;
+            }
+            switch (name) {
+                case "exp" -> expiration = number;
+                case "iat" -> issuedAt = number;
+                case "nbf" -> notBefore = number;
+                case ParsedToken.COMPACT_CATEGORY_CLAIM -> compactCategory = number;
+                case ParsedToken.COMPACT_USER_ROLE_CLAIM -> compactUserRole = number;
+                case "sub", "jti", ParsedToken.CATEGORY_CLAIM, ParsedToken.NICKNAME_CLAIM,
+                     ParsedToken.USER_NAME_CLAIM, ParsedToken.USER_ROLE_CLAIM, ParsedToken.DEVICE_ID_CLAIM,
+                     ParsedToken.COMPACT_NICKNAME_CLAIM, ParsedToken.COMPACT_USER_NAME_CLAIM -> {
+                    return false;
+                }
+                default -> {
+                }
+            }
+            return true;
+        }
+
+        private Long readLong() {
+            int start = pos;
+            if (pos < json.length && json[pos] == '-') {
+                pos++;
+            }
+            long value = 0;
+            int digits = 0;
+            while (pos < json.length && json[pos] >= '0' && json[pos] <= '9') {
+                if (digits == 18) {
+                    return null;
+                }
+                value = value * 10 + (json[pos] - '0');
+                pos++;
+                digits++;
+            }
+            if (digits == 0) {
+                return null;
+            }
+            // 실수/지수 표기는 지원하지 않는다.
+            if (pos < json.length && (json[pos] == '.' || json[pos] == 'e' || json[pos] == 'E')) {
+                return null;
+            }
+            return json[start] == '-' ? -value : value;
+        }
+
+        private String readString() {
+            if (!consume('"')) {
+                return null;
+            }
+            int start = pos;
+            while (pos < json.length) {
+                byte b = json[pos];
+                if (b == '"') {
+                    String value = new String(json, start, pos - start, StandardCharsets.UTF_8);
+                    pos++;
+                    return value;
+                }
+                if (b == '\\') {
+                    return readEscapedString(start);
+                }
+                if (b >= 0 && b < 0x20) {
+                    return null;
+                }
+                pos++;
+            }
+            return null;
+        }
+
+        // 이스케이프가 있는 드문 경우만 StringBuilder 로 처리한다.
+        private String readEscapedString(int start) {
+            StringBuilder sb = new StringBuilder(new String(json, start, pos - start, StandardCharsets.UTF_8));
+            int chunkStart = pos;
+            while (pos < json.length) {
+                byte b = json[pos];
+                if (b == '"') {
+                    sb.append(new String(json, chunkStart, pos - chunkStart, StandardCharsets.UTF_8));
+                    pos++;
+                    return sb.toString();
+                }
+                if (b >= 0 && b < 0x20) {
+                    return null;
+                }
+                if (b != '\\') {
+                    pos++;
+                    continue;
+                }
+                sb.append(new String(json, chunkStart, pos - chunkStart, StandardCharsets.UTF_8));
+                if (++pos >= json.length) {
+                    return null;
+                }
+                byte escaped = json[pos++];
+                switch (escaped) {
+                    case '"' -> sb.append('"');
+                    case '\\' -> sb.append('\\');
+                    case '/' -> sb.append('/');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'u' -> {
+                        if (pos + 4 > json.length) {
+                            return null;
+                        }
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(json[pos++], 16);
+                            if (digit < 0) {
+                                return null;
+                            }
+                            code = (code << 4) | digit;
+                        }
+                        sb.append((char) code);
+                    }
+                    default -> {
+                        return null;
+                    }
+                }
+                chunkStart = pos;
+            }
+            return null;
+        }
+
+        private void skipWhitespace() {
+            while (pos < json.length) {
+                byte b = json[pos];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        private boolean consume(char expected) {
+            if (pos < json.length && json[pos] == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean atEnd() {
+            skipWhitespace();
+            return pos == json.length;
+        }
+    }
+}
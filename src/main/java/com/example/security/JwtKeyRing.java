@@ -0,0 +1,201 @@
+package com.example.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * kid 별 비대칭 서명/검증 키 모음과 이를 공개하는 JWKS 문서.
+ * jwt.signing.algorithm 이 HS256 이면 비어 있고, 토큰은 기존처럼 jwt.secret.key 로 서명된다.
+ *
+ * <p>무중단 교체 순서: 새 키를 keys 에 추가해 JWKS 로 먼저 공개 → 다른 서비스의 JWKS 캐시가 갱신된 뒤 active-kid 변경
+ * → 이전 키로 서명된 액세스 토큰이 모두 만료되면 이전 키 제거.
+ */
+@Slf4j(topic = "JWT Keys")
+@Component
+public class JwtKeyRing {
+
+    // RS256/ES256 외의 알고리즘(EdDSA 등)은 jjwt 0.11 이 지원하지 않는다.
+    private static final Map<String, SignatureAlgorithm> SUPPORTED = Map.of(
+            "RS256", SignatureAlgorithm.RS256,
+            "ES256", SignatureAlgorithm.ES256
+    );
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final SignatureAlgorithm algorithm;
+
+    @Getter
+    private final SigningKey signingKey;
+
+    private final Map<String, PublicKey> verificationKeys;
+
+    // 비대칭 키로 바꾼 뒤에도 kid 없는 HMAC 액세스 토큰을 받는지 (교체 기간)
+    private final boolean acceptLegacyHmac;
+
+    // 미리 직렬화한 JWKS 응답 본문과 ETag
+    @Getter
+    private final byte[] jwks;
+    @Getter
+    private final String jwksETag;
+    @Getter
+    private final Duration jwksMaxAge;
+
+    public JwtKeyRing(JwtSigningProperties properties) {
+        this.jwksMaxAge = properties.jwksMaxAge();
+        this.acceptLegacyHmac = properties.acceptLegacyHmac();
+        String algorithmName = properties.algorithm().toUpperCase(Locale.ROOT);
+        if ("HS256".equals(algorithmName)) {
+            this.algorithm = null;
+            this.signingKey = null;
+            this.verificationKeys = Map.of();
+        } else {
+            this.algorithm = SUPPORTED.get(algorithmName);
+            if (algorithm == null) {
+                throw new IllegalStateException("Unsupported jwt.signing.algorithm: " + properties.algorithm()
+                        + " (supported: HS256, RS256, ES256)");
+            }
+            this.verificationKeys = loadPublicKeys(properties.keys(), algorithm);
+            this.signingKey = loadSigningKey(properties, algorithm);
+            log.info("Signing access tokens with {} key {} ({} verification keys)",
+                    algorithm, signingKey.kid(), verificationKeys.size());
+        }
+        this.jwks = writeJwks(verificationKeys, algorithm);
+        this.jwksETag = "\"" + DigestUtils.md5DigestAsHex(jwks) + "\"";
+    }
+
+    public boolean isAsymmetric() {
+        return algorithm != null;
+    }
+
+    /**
+     * kid 없이 HMAC 으로 서명된 액세스 토큰을 받아도 되는지. HS256 모드면 모든 토큰이 HMAC 이므로 항상 true.
+     */
+    public boolean acceptsHmacAccessToken() {
+        return algorithm == null || acceptLegacyHmac;
+    }
+
+    /**
+     * kid 에 해당하는 검증 키. 모르는 kid 면 서명 오류로 처리한다.
+     */
+    public PublicKey verificationKey(String kid) {
+        PublicKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new SignatureException("Unknown signing key id: " + kid);
+        }
+        return key;
+    }
+
+    public record SigningKey(String kid, PrivateKey privateKey, SignatureAlgorithm algorithm) {
+    }
+
+    private static Map<String, PublicKey> loadPublicKeys(List<JwtSigningProperties.Key> keys, SignatureAlgorithm algorithm) {
+        Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+        for (JwtSigningProperties.Key key : keys) {
+            if (!StringUtils.hasText(key.kid()) || !StringUtils.hasText(key.publicKey())) {
+                throw new IllegalStateException("jwt.signing.keys entries need kid and public-key");
+            }
+            PublicKey publicKey = (PublicKey) decode(key.publicKey(), algorithm, false);
+            if (publicKeys.put(key.kid(), publicKey) != null) {
+                throw new IllegalStateException("Duplicate jwt.signing key id: " + key.kid());
+            }
+        }
+        return Map.copyOf(publicKeys);
+    }
+
+    private static SigningKey loadSigningKey(JwtSigningProperties properties, SignatureAlgorithm algorithm) {
+        JwtSigningProperties.Key active = properties.keys().stream()
+                .filter(key -> key.kid().equals(properties.activeKid()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("jwt.signing.active-kid not found in keys: " + properties.activeKid()));
+        if (!StringUtils.hasText(active.privateKey())) {
+            throw new IllegalStateException("Active signing key " + active.kid() + " has no private-key");
+        }
+        PrivateKey privateKey = (PrivateKey) decode(active.privateKey(), algorithm, true);
+        return new SigningKey(active.kid(), privateKey, algorithm);
+    }
+
+    private static java.security.Key decode(String pem, SignatureAlgorithm algorithm, boolean privateKey) {
+        String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        byte[] der = Base64.getDecoder().decode(base64);
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.getFamilyName());
+            return privateKey
+                    ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(der))
+                    : keyFactory.generatePublic(new X509EncodedKeySpec(der));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid " + algorithm.getFamilyName() + " key for " + algorithm, e);
+        }
+    }
+
+    private static byte[] writeJwks(Map<String, PublicKey> keys, SignatureAlgorithm algorithm) {
+        List<Map<String, String>> jwkList = new ArrayList<>();
+        keys.forEach((kid, key) -> jwkList.add(toJwk(kid, key, algorithm)));
+        try {
+            return new ObjectMapper().writeValueAsBytes(Map.of("keys", jwkList));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write JWKS", e);
+        }
+    }
+
+    private static Map<String, String> toJwk(String kid, PublicKey key, SignatureAlgorithm algorithm) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        if (key instanceof RSAPublicKey rsa) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(rsa.getModulus(), 0));
+            jwk.put("e", base64Url(rsa.getPublicExponent(), 0));
+        } else if (key instanceof ECPublicKey ec) {
+            int size = (ec.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+            if (size != 32) {
+                throw new IllegalStateException("ES256 requires a P-256 key: " + kid);
+            }
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(ec.getW().getAffineX(), size));
+            jwk.put("y", base64Url(ec.getW().getAffineY(), size));
+        }
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        jwk.put("kid", kid);
+        return jwk;
+    }
+
+    // 부호 없는 big-endian. length 가 있으면 그 길이에 맞춰 앞을 0 으로 채운다.
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] unsigned = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, unsigned, 0, unsigned.length);
+            bytes = unsigned;
+        }
+        if (length > bytes.length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return BASE64_URL.encodeToString(bytes);
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.security;
 
-import com.example.domain.enums.UserRole;
-import io.jsonwebtoken.Claims;
+import com.example.common.ExceptionCause;
+import com.example.common.exception.ApiException;
+import com.example.common.monitoring.AuthMetrics;
+import com.example.common.monitoring.AuthMetrics.Stage;
+import com.example.common.monitoring.jfr.TokenVerificationEvent;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +30,12 @@ public class JwtSecurityFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final TokenRevocationList tokenRevocationList;
+
+    private final AuthMetrics authMetrics;
+
     @Override
     protected void doFilterInternal(HttpServletRequest httpRequest, @NonNull HttpServletResponse httpResponse,
                                     @NonNull FilterChain chain) throws ServletException, IOException {
@@ -33,34 +43,68 @@ public class JwtSecurityFilter extends OncePerRequestFilter {
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             String jwt = jwtUtil.substringToken(authorizationHeader);
+            TokenVerificationEvent event = new TokenVerificationEvent();
+            event.begin();
+            long verifyStart = System.nanoTime();
+            String outcome = AuthMetrics.ERROR;
             try {
-                Claims claims = jwtUtil.extractClaims(jwt);
-                Long userId = Long.valueOf(claims.getSubject());
-                String email = claims.get("nickname", String.class);
-                String userName = claims.get("userName", String.class);
-                UserRole userRole = UserRole.of(claims.get("userRole", String.class));
+                // 이미 검증된 토큰이면 서명 검증과 Claim 파싱을 건너뛴다.
+                AuthUser authUser = verifiedTokenCache.get(jwt);
+                if (authUser == null) {
+                    ParsedToken parsedToken = jwtUtil.parseAccessToken(jwt);
+                    authUser = parsedToken.toAuthUser();
+                    verifiedTokenCache.put(jwt, authUser, parsedToken.getExpiration());
+                    outcome = AuthMetrics.SUCCESS;
+                } else {
+                    outcome = AuthMetrics.CACHE_HIT;
+                }
+                event.userId = authUser.getUserId();
+                // 서명이 유효해도 로그아웃으로 무효화된 토큰이면 거부한다. 메모리에서만 확인한다.
+                if (tokenRevocationList.isRevoked(authUser.getTokenId(), authUser.getExpiresAt())) {
+                    outcome = AuthMetrics.REVOKED;
+                    recordVerification(event, outcome, verifyStart);
+                    httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그아웃된 토큰입니다.");
+                    return;
+                }
+                recordVerification(event, outcome, verifyStart);
 
                 if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                    AuthUser authUser = new AuthUser(userId, email,userName,userRole);
-
                     JwtAuthenticationToken authenticationToken = new JwtAuthenticationToken(authUser);
                     authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(httpRequest));
                     SecurityContextHolder.getContext().setAuthentication(authenticationToken);
                 }
             } catch (SecurityException | MalformedJwtException e) {
+                recordVerification(event, AuthMetrics.INVALID, verifyStart);
                 log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
                 httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
             } catch (ExpiredJwtException e) {
+                recordVerification(event, AuthMetrics.EXPIRED, verifyStart);
                 log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
                 httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
             } catch (UnsupportedJwtException e) {
+                recordVerification(event, AuthMetrics.INVALID, verifyStart);
                 log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
+            } catch (ApiException e) {
+                // 서명은 유효하지만 내용이 잘못된 토큰 (subject 가 숫자가 아닌 경우 등)
+                recordVerification(event, AuthMetrics.INVALID, verifyStart);
+                ExceptionCause cause = e.getErrorCode().getCauseHttpStatus();
+                log.error("Invalid JWT claims, 유효하지 않은 JWT 토큰 입니다. ({})", cause.getMessage());
+                httpResponse.sendError(cause.getHttpStatus().value(), cause.getMessage());
             } catch (Exception e) {
+                if (AuthMetrics.ERROR.equals(outcome)) {
+                    recordVerification(event, AuthMetrics.outcomeOf(e), verifyStart);
+                }
                 log.error("Internal server error", e);
                 httpResponse.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             }
         }
         chain.doFilter(httpRequest, httpResponse);
     }
+
+    private void recordVerification(TokenVerificationEvent event, String outcome, long verifyStart) {
+        authMetrics.record(Stage.TOKEN_VERIFY, outcome, System.nanoTime() - verifyStart);
+        event.outcome = outcome;
+        event.commit();
+    }
 }
@@ -0,0 +1,32 @@
+package com.example.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 액세스 토큰 서명 키 설정 (jwt.signing.*).
+ *
+ * @param algorithm  HS256(기존 공유 비밀키), RS256, ES256
+ * @param activeKid  새 토큰을 서명할 키. private-key 가 있어야 한다.
+ * @param keys       검증에 쓰는 키 목록. 교체 전후의 키를 함께 두면 무중단으로 교체할 수 있다.
+ * @param jwksMaxAge JWKS 응답을 다른 서비스가 캐싱해도 되는 시간
+ * @param acceptLegacyHmac RS256/ES256 로 바꾼 뒤에도 kid 없는 HMAC 액세스 토큰을 받을지 여부.
+ *                         교체 전에 발급된 액세스 토큰이 모두 만료되면 false 로 바꿔 이전 형식을 막는다.
+ */
+@ConfigurationProperties("jwt.signing")
+public record JwtSigningProperties(@DefaultValue("HS256") String algorithm,
+                                   String activeKid,
+                                   @DefaultValue List<Key> keys,
+                                   @DefaultValue("5m") Duration jwksMaxAge,
+                                   @DefaultValue("true") boolean acceptLegacyHmac) {
+
+    /**
+     * @param privateKey PKCS#8 PEM. 서명하지 않는 키(교체 전 공개, 교체 후 유지)는 비워 둔다.
+     * @param publicKey  X.509(SubjectPublicKeyInfo) PEM
+     */
+    public record Key(String kid, String privateKey, String publicKey) {
+    }
+}
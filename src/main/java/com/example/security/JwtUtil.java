@@ -16,8 +16,12 @@ import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.security.Key;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j(topic = "JWT Util")
@@ -34,12 +38,46 @@ public class JwtUtil {
     @Value("${jwt.secret.key}")
     private String secretKey;
 
+    // 액세스 토큰 검증 시 jjwt 대신 전용 HS256 검증기를 먼저 사용할지 여부
+    @Value("${jwt.verifier.fast-path:false}")
+    private boolean fastPathEnabled;
+
+    // 액세스 토큰을 짧은 Claim 이름으로 발급할지 여부. 검증은 설정과 무관하게 두 형식을 모두 받는다.
+    @Value("${jwt.access-token.compact:false}")
+    private boolean compactAccessToken;
+
+    // jwt.signing.algorithm 이 RS256/ES256 이면 액세스 토큰을 kid 가 붙은 비대칭 키로 서명한다.
+    private final JwtKeyRing keyRing;
+
     private SecretKey key;
 
+    // 빌드된 JwtParser 는 불변이므로 스레드 간에 공유한다.
+    private JwtParser jwtParser;
+
+    private Hs256TokenVerifier fastVerifier;
+
+    public JwtUtil(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
     @PostConstruct
     private void init() {
         // 키 설정
         key = getSecretKeyFromBase64(secretKey);
+        jwtParser = Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                return verificationKey(header.getKeyId(), claims);
+            }
+        }).build();
+
+        // fast-path 는 HMAC 액세스 토큰 전용이므로 HMAC 액세스 토큰을 받지 않으면 만들지 않는다.
+        if (fastPathEnabled && keyRing.acceptsHmacAccessToken()) {
+            fastVerifier = Hs256TokenVerifier.forKey(key);
+            if (fastVerifier == null) {
+                log.warn("jwt.verifier.fast-path is enabled but the secret key is not an HS256 key; using jjwt only");
+            }
+        }
     }
 
     public void addTokenToHeader(HttpServletResponse response, String token) {
@@ -62,7 +100,7 @@ public class JwtUtil {
     }
 
     private JwtParser getJwtParser() {
-        return Jwts.parserBuilder().setSigningKey(key).build();
+        return jwtParser;
     }
 
     public SecretKey getSecretKeyFromBase64(String base64) {
@@ -75,62 +113,152 @@ public class JwtUtil {
     }
 
 
-    public String createAccessToken(Long userId, String nickname, String userName,UserRole role) {
+    public String createAccessToken(Long userId, String nickname, String userName,UserRole role, String deviceId) {
+        if (compactAccessToken) {
+            return BEARER_PREFIX + signAccessToken(compactAccessToken(userId, nickname, userName, role, deviceId));
+        }
         Date now = new Date();
-        return BEARER_PREFIX + Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .claim("category", TokenType.ACCESS.name())
                 .setExpiration(new Date(now.getTime() + TokenType.ACCESS.getLifeTime()))
                 .setSubject(String.valueOf(userId))
+                // 로그아웃 시 이 토큰만 무효화할 수 있도록 토큰마다 고유 ID 를 둔다.
+                .setId(UUID.randomUUID().toString())
                 .claim("nickname", nickname)
                 .claim("userName",userName)
                 .claim("userRole", role.getUserRole())
-                .setIssuedAt(now)
-                .signWith(key)
-                .compact();
+                .claim("did", deviceId) // 로그아웃 시 이 기기의 리프레시 세션만 지운다.
+                .setIssuedAt(now);
+        return BEARER_PREFIX + signAccessToken(builder);
+    }
+
+    /**
+     * 요청마다 헤더로 오가는 바이트를 줄인 액세스 토큰.
+     * Claim 이름을 한 글자로 줄이고 카테고리/권한은 enum 순번으로 넣으며, exp 로 알 수 있는 iat 는 넣지 않는다.
+     * jti 는 UUID 문자열(36자) 대신 같은 128비트 난수를 base64url(22자)로 쓴다.
+     */
+    private JwtBuilder compactAccessToken(Long userId, String nickname, String userName, UserRole role, String deviceId) {
+        return Jwts.builder()
+                .setSubject(String.valueOf(userId))
+                .setExpiration(new Date(System.currentTimeMillis() + TokenType.ACCESS.getLifeTime()))
+                .setId(compactTokenId())
+                .claim(ParsedToken.COMPACT_CATEGORY_CLAIM, TokenType.ACCESS.ordinal())
+                .claim(ParsedToken.COMPACT_NICKNAME_CLAIM, nickname)
+                .claim(ParsedToken.COMPACT_USER_NAME_CLAIM, userName)
+                .claim(ParsedToken.COMPACT_USER_ROLE_CLAIM, role.ordinal())
+                .claim(ParsedToken.DEVICE_ID_CLAIM, deviceId);
+    }
+
+    private static String compactTokenId() {
+        UUID uuid = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
     }
 
-    public String createRefreshToken(Long userId) {
+    public String createRefreshToken(Long userId, String deviceId) {
         Date now = new Date();
         return Jwts.builder()
                 .setSubject(String.valueOf(userId)) // 사용자 ID만 포함
                 .claim("category", TokenType.REFRESH.name()) // 리프레시 토큰임을 명시
+                .claim("did", deviceId) // 재발급 시 이 기기의 세션만 교체
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + TokenType.REFRESH.getLifeTime())) // 더 긴 유효 기간
                 .signWith(key)
                 .compact();
     }
 
+    // 액세스 토큰은 다른 서비스도 검증하므로 비대칭 키가 설정되어 있으면 그 키로 서명한다.
+    // 리프레시 토큰은 이 서비스만 검증하므로 계속 HMAC 으로 서명한다.
+    private String signAccessToken(JwtBuilder builder) {
+        if (keyRing.isAsymmetric()) {
+            JwtKeyRing.SigningKey signingKey = keyRing.getSigningKey();
+            return builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                    .signWith(signingKey.privateKey(), signingKey.algorithm())
+                    .compact();
+        }
+        return builder.signWith(key).compact();
+    }
+
+    // kid 가 없는 토큰은 HMAC 으로 서명된 토큰(리프레시 토큰, 교체 전 액세스 토큰)이다.
+    // 교체 기간(jwt.signing.accept-legacy-hmac)이 끝나면 HMAC 은 리프레시 토큰에만 쓴다.
+    private Key verificationKey(String kid, Claims claims) {
+        if (kid != null) {
+            return keyRing.verificationKey(kid);
+        }
+        if (!keyRing.acceptsHmacAccessToken() && !TokenType.REFRESH.name().equals(claims.get("category"))) {
+            throw new UnsupportedJwtException("Access tokens without a signing key id are no longer accepted");
+        }
+        return key;
+    }
+
     public Claims extractClaims(String token) {
             return getJwtParser().parseClaimsJws(token).getBody();
     }
 
-    public boolean isExpired(String token) {
+    /**
+     * 서명과 만료를 한 번만 검증하고 결과를 {@link ParsedToken} 으로 돌려준다.
+     * 검증 실패 시 jjwt 예외(ExpiredJwtException, MalformedJwtException 등)를 그대로 던진다.
+     */
+    public ParsedToken parse(String token) {
+        return ParsedToken.from(extractClaims(token));
+    }
+
+    /**
+     * Refresh-Token 헤더 값에서 "Bearer " 접두사를 제거한다.
+     */
+    public String resolveRefreshToken(String bearerToken) {
+        // 1. 리프레시 토큰이 null인지 확인
+        if (!StringUtils.hasText(bearerToken)) {
+            throw new ApiException(ErrorStatus.NOT_FOUND_REFRESH_TOKEN);
+        }
         try {
-            Date expiration = extractClaims(token).getExpiration();
-            return expiration.before(new Date());
-        } catch (Exception e) {
-            log.error("Failed to check token expiration", e);
-            throw new IllegalArgumentException("Invalid token");
+            // 2. "Bearer " 접두사를 제거
+            return substringToken(bearerToken);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(ErrorStatus.INVALID_TOKEN_FORMAT);
         }
     }
 
-    public String getCategory(String token) {
+    /**
+     * 리프레시 토큰을 한 번 검증하고, 만료/위조/카테고리 오류를 ApiException 으로 바꿔 던진다.
+     */
+    public ParsedToken parseRefreshToken(String refreshToken) {
+        // 3. 서명/만료 검증과 파싱을 한 번에 수행
+        ParsedToken parsedToken;
         try {
-            return extractClaims(token).get("category", String.class);
-        } catch (Exception e) {
-            log.error("Failed to extract category", e);
-            throw new IllegalArgumentException("Invalid token");
+            parsedToken = parse(refreshToken);
+        } catch (ExpiredJwtException e) {
+            throw new ApiException(ErrorStatus.EXPIRED_REFRESH_TOKEN);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ApiException(ErrorStatus.INVALID_REFRESH_TOKEN);
         }
+
+        // 4. 리프레시 토큰인지 확인
+        if (!parsedToken.isCategory(TokenType.REFRESH)) {
+            throw new ApiException(ErrorStatus.NOT_REFRESH_TOKEN);
+        }
+        return parsedToken;
     }
-    
 
-    public String getUserId(String token) {
-        try {
-            return extractClaims(token).getSubject();
-        } catch (Exception e) {
-            log.error("Failed to extract user ID", e);
-            throw new IllegalArgumentException("Invalid token");
+    /**
+     * 액세스 토큰 검증용. fast-path 가 켜져 있으면 전용 HS256 검증기를 먼저 시도하고,
+     * 판단할 수 없는 토큰은 jjwt 로 다시 검증해 결과와 예외가 jjwt 경로와 같도록 한다.
+     */
+    public ParsedToken parseAccessToken(String token) {
+        if (fastVerifier != null) {
+            ParsedToken parsedToken = fastVerifier.verify(token);
+            if (parsedToken != null) {
+                return parsedToken;
+            }
+        }
+        ParsedToken parsedToken = parse(token);
+        // 교체 기간이 끝나면 HMAC 으로 서명된 리프레시 토큰을 액세스 토큰 자리에 쓸 수 없다.
+        if (!keyRing.acceptsHmacAccessToken() && parsedToken.isCategory(TokenType.REFRESH)) {
+            throw new UnsupportedJwtException("Refresh tokens are not accepted as access tokens");
         }
+        return parsedToken;
     }
 
 }
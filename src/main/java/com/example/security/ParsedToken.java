@@ -0,0 +1,138 @@
+package com.example.security;
+
+import com.example.common.ErrorStatus;
+import com.example.common.exception.ApiException;
+import com.example.domain.enums.TokenType;
+import com.example.domain.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 한 번 마친 토큰의 불변 표현.
+ * 호출부는 같은 토큰을 다시 파싱하지 않고 이 객체에서 필요한 값을 꺼내 쓴다.
+ * compact 형식(짧은 Claim 이름, enum 순번)의 액세스 토큰도 같은 값으로 풀어 둔다.
+ * Date 는 변경 가능하므로 getter 는 복사본을 돌려준다.
+ */
+@Getter
+public final class ParsedToken {
+
+    public static final String CATEGORY_CLAIM = "category";
+    public static final String NICKNAME_CLAIM = "nickname";
+    public static final String USER_NAME_CLAIM = "userName";
+    public static final String USER_ROLE_CLAIM = "userRole";
+    public static final String DEVICE_ID_CLAIM = "did";
+
+    // compact 액세스 토큰의 Claim. 카테고리와 권한은 TokenType/UserRole 의 순번이다.
+    public static final String COMPACT_CATEGORY_CLAIM = "t";
+    public static final String COMPACT_NICKNAME_CLAIM = "n";
+    public static final String COMPACT_USER_NAME_CLAIM = "u";
+    public static final String COMPACT_USER_ROLE_CLAIM = "r";
+
+    static final TokenType[] TOKEN_TYPES = TokenType.values();
+    static final UserRole[] USER_ROLES = UserRole.values();
+
+    private final String subject;
+    private final String tokenId;
+    private final String category;
+    @Getter(AccessLevel.NONE)
+    private final Date issuedAt;
+    @Getter(AccessLevel.NONE)
+    private final Date expiration;
+    private final String nickname;
+    private final String userName;
+    private final String userRole;
+    private final String deviceId;
+
+    ParsedToken(String subject, String tokenId, String category, Date issuedAt, Date expiration,
+                String nickname, String userName, String userRole, String deviceId) {
+        this.subject = subject;
+        this.tokenId = tokenId;
+        this.category = category;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+        this.nickname = nickname;
+        this.userName = userName;
+        this.userRole = userRole;
+        this.deviceId = deviceId;
+    }
+
+    public static ParsedToken from(Claims claims) {
+        if (claims.containsKey(COMPACT_CATEGORY_CLAIM)) {
+            return fromCompact(claims);
+        }
+        return new ParsedToken(
+                claims.getSubject(),
+                claims.getId(),
+                claims.get(CATEGORY_CLAIM, String.class),
+                claims.getIssuedAt(),
+                claims.getExpiration(),
+                claims.get(NICKNAME_CLAIM, String.class),
+                claims.get(USER_NAME_CLAIM, String.class),
+                claims.get(USER_ROLE_CLAIM, String.class),
+                claims.get(DEVICE_ID_CLAIM, String.class)
+        );
+    }
+
+    private static ParsedToken fromCompact(Claims claims) {
+        return new ParsedToken(
+                claims.getSubject(),
+                claims.getId(),
+                requireName(TOKEN_TYPES, claims.get(COMPACT_CATEGORY_CLAIM, Integer.class)),
+                claims.getIssuedAt(),
+                claims.getExpiration(),
+                claims.get(COMPACT_NICKNAME_CLAIM, String.class),
+                claims.get(COMPACT_USER_NAME_CLAIM, String.class),
+                requireName(USER_ROLES, claims.get(COMPACT_USER_ROLE_CLAIM, Integer.class)),
+                claims.get(DEVICE_ID_CLAIM, String.class)
+        );
+    }
+
+    private static String requireName(Enum<?>[] values, Integer ordinal) {
+        if (ordinal == null) {
+            return null;
+        }
+        String name = nameOf(values, ordinal);
+        if (name == null) {
+            throw new MalformedJwtException("Unknown enum ordinal in compact token: " + ordinal);
+        }
+        return name;
+    }
+
+    // 순번에 해당하는 enum 이름. 범위를 벗어나면 null
+    static String nameOf(Enum<?>[] values, long ordinal) {
+        return ordinal >= 0 && ordinal < values.length ? values[(int) ordinal].name() : null;
+    }
+
+    public Date getIssuedAt() {
+        return issuedAt != null ? new Date(issuedAt.getTime()) : null;
+    }
+
+    public Date getExpiration() {
+        return expiration != null ? new Date(expiration.getTime()) : null;
+    }
+
+    // 서명이 유효해도 subject 가 숫자가 아니면 이 서버가 발급한 토큰이 아니다.
+    public Long getUserId() {
+        try {
+            return Long.valueOf(subject);
+        } catch (NumberFormatException e) {
+            throw new ApiException(ErrorStatus.INVALID_TOKEN);
+        }
+    }
+
+    public boolean isCategory(TokenType tokenType) {
+        return tokenType.name().equals(category);
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+    public AuthUser toAuthUser() {
+        return new AuthUser(getUserId(), nickname, userName, UserRole.of(userRole), tokenId, getExpiration(), deviceId);
+    }
+}
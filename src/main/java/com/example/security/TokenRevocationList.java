@@ -0,0 +1,197 @@
+package com.example.security;
+
+import com.example.common.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃 등으로 무효화된 액세스 토큰 ID(jti) 목록.
+ * 요청마다 하는 확인은 메모리에서만 끝난다. 토큰 만료 시각 기준 시간 버킷마다 Bloom filter 와 정확한 집합을 두고,
+ * 만료 시각이 지난 버킷은 통째로 버린다.
+ * 노드 간 동기화는 Redis pub/sub 으로 하고, 기동 시와 주기적으로 Redis sorted set(score = exp)에서 전체를 다시 읽어
+ * 놓친 메시지를 메운다.
+ */
+@Slf4j(topic = "Token_Revocation")
+@Component
+public class TokenRevocationList implements MessageListener, DisposableBean {
+
+    public static final ChannelTopic TOPIC = new ChannelTopic("auth:revocation");
+    static final String REVOKED_KEY = "auth:revoked";
+    private static final char SEPARATOR = ':';
+
+    private final StringRedisTemplate redisTemplate;
+    private final long bucketMillis;
+    private final long expectedPerBucket;
+    private final double falsePositiveRate;
+    private final Duration resyncInterval;
+
+    // 버킷 번호(exp / bucketMillis) -> 버킷
+    private final ConcurrentHashMap<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    private final Counter rejected;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "token-revocation-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TokenRevocationList(StringRedisTemplate redisTemplate,
+                               @Value("${jwt.revocation.bucket:15m}") Duration bucket,
+                               @Value("${jwt.revocation.expected-per-bucket:10000}") long expectedPerBucket,
+                               @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                               @Value("${jwt.revocation.resync-interval:5m}") Duration resyncInterval,
+                               MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.bucketMillis = bucket.toMillis();
+        this.expectedPerBucket = expectedPerBucket;
+        this.falsePositiveRate = falsePositiveRate;
+        this.resyncInterval = resyncInterval;
+
+        this.rejected = Counter.builder("jwt.revocation.rejected").register(meterRegistry);
+        Gauge.builder("jwt.revocation.size", this, TokenRevocationList::size).register(meterRegistry);
+        Gauge.builder("jwt.revocation.buckets", buckets, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        sync();
+        long interval = resyncInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::sync, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 무효화된 토큰인지 확인한다. jti 가 없는 토큰(이전 형식)은 무효화할 수 없으므로 false.
+     */
+    public boolean isRevoked(String tokenId, Date expiresAt) {
+        if (tokenId == null || expiresAt == null) {
+            return false;
+        }
+        Bucket bucket = buckets.get(expiresAt.getTime() / bucketMillis);
+        if (bucket == null || !bucket.contains(tokenId)) {
+            return false;
+        }
+        rejected.increment();
+        return true;
+    }
+
+    /**
+     * 이 노드에 바로 반영하고, Redis 에 기록한 뒤 다른 노드에 알린다.
+     */
+    public void revoke(String tokenId, Date expiresAt) {
+        long expiresAtMillis = expiresAt.getTime();
+        if (!add(tokenId, expiresAtMillis, System.currentTimeMillis())) {
+            return;
+        }
+        redisTemplate.opsForZSet().add(REVOKED_KEY, tokenId, expiresAtMillis);
+        redisTemplate.convertAndSend(TOPIC.getTopic(), expiresAtMillis + String.valueOf(SEPARATOR) + tokenId);
+    }
+
+    // 다른 노드가 보낸 "exp:jti" 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+        try {
+            add(body.substring(separator + 1), Long.parseLong(body.substring(0, separator)), System.currentTimeMillis());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed revocation message: {}", body);
+        }
+    }
+
+    void sync() {
+        try {
+            resync(System.currentTimeMillis());
+        } catch (Exception e) {
+            // Redis 가 없어도 pub/sub 으로 받은 목록으로 계속 확인하고, 다음 주기에 다시 맞춘다.
+            log.warn("Failed to resync revoked tokens from Redis", e);
+        }
+    }
+
+    void resync(long now) {
+        sweep(now);
+        redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+        Set<TypedTuple<String>> revoked = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(REVOKED_KEY, now, Double.POSITIVE_INFINITY);
+        if (revoked == null) {
+            return;
+        }
+        for (TypedTuple<String> entry : revoked) {
+            if (entry.getValue() != null && entry.getScore() != null) {
+                add(entry.getValue(), entry.getScore().longValue(), now);
+            }
+        }
+    }
+
+    // 버킷의 마지막 만료 시각까지 지났으면 그 안의 토큰은 모두 만료되었다.
+    void sweep(long now) {
+        buckets.keySet().removeIf(index -> (index + 1) * bucketMillis <= now);
+    }
+
+    long size() {
+        long size = 0;
+        for (Bucket bucket : buckets.values()) {
+            size += bucket.exact.size();
+        }
+        return size;
+    }
+
+    private boolean add(String tokenId, long expiresAtMillis, long now) {
+        // 이미 만료된 토큰은 서명 검증에서 걸러지므로 보관할 필요가 없다.
+        if (expiresAtMillis <= now) {
+            return false;
+        }
+        buckets.computeIfAbsent(expiresAtMillis / bucketMillis,
+                index -> new Bucket(BloomFilter.create(expectedPerBucket, falsePositiveRate))).add(tokenId);
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 대부분의 조회는 filter 에서 바로 false 로 끝나고, filter 가 있다고 할 때만 정확한 집합으로 오탐을 걸러낸다.
+     */
+    private static final class Bucket {
+        private final BloomFilter filter;
+        private final Set<String> exact = ConcurrentHashMap.newKeySet();
+
+        private Bucket(BloomFilter filter) {
+            this.filter = filter;
+        }
+
+        private void add(String tokenId) {
+            exact.add(tokenId);
+            filter.put(tokenId);
+        }
+
+        private boolean contains(String tokenId) {
+            return filter.mightContain(tokenId) && exact.contains(tokenId);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 AuthUser 를 보관하는 캐시.
+ * 키는 토큰 원문이 아닌 SHA-256 다이제스트이며, 엔트리는 토큰의 exp 를 넘겨 살아남지 않는다.
+ */
+@Slf4j(topic = "Token_Cache")
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final boolean enabled;
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.max-size:10000}") int maxSize,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+
+        FunctionCounter.builder("jwt.token.cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("jwt.token.cache.misses", misses, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("jwt.token.cache.evictions", evictions, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("jwt.token.cache.size", entries, Map::size).register(meterRegistry);
+    }
+
+    public AuthUser get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            // 만료된 엔트리는 즉시 제거하고 미스로 처리해 jjwt 가 ExpiredJwtException 을 던지게 한다.
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.authUser;
+    }
+
+    public void put(String token, AuthUser authUser, Date expiration) {
+        if (!enabled || expiration == null) {
+            return;
+        }
+        long expiresAt = expiration.getTime();
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(digest(token), new Entry(authUser, expiresAt));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 한 스레드만 정리를 수행하고 나머지는 기다리지 않고 지나간다. 상한은 근사치로 지켜진다.
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            entries.forEach((key, entry) -> {
+                if (entry.isExpired(now) && entries.remove(key, entry)) {
+                    evictions.increment();
+                }
+            });
+
+            // 만료 정리로 충분하지 않으면 상한의 90% 까지 임의 순서로 비운다.
+            int target = (int) (maxSize * 0.9);
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    private static final class Entry {
+        private final AuthUser authUser;
+        private final long expiresAt;
+
+        private Entry(AuthUser authUser, long expiresAt) {
+            this.authUser = authUser;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
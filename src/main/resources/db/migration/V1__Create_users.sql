@@ -0,0 +1,16 @@
+-- 사용자 테이블. 기존에 ddl-auto 로 만들어진 스키마는 baseline(V1)으로 간주하고 이 스크립트를 건너뛴다.
+-- user_id 는 애플리케이션의 Snowflake 생성기가 채우므로 AUTO_INCREMENT 가 아니다.
+CREATE TABLE users
+(
+    user_id     BIGINT                          NOT NULL,
+    username    VARCHAR(150)                    NOT NULL,
+    password    VARCHAR(255)                    NOT NULL,
+    nickname    VARCHAR(255)                    NOT NULL,
+    user_role   ENUM ('ROLE_ADMIN','ROLE_USER') NULL,
+    created_at  DATETIME(6)                     NULL,
+    modified_at DATETIME(6)                     NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
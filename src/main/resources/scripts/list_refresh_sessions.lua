@@ -0,0 +1,21 @@
+-- 사용자의 리프레시 세션 목록. 토큰 값은 빼고 (기기 ID, 만료 시각(ms)) 쌍만 돌려준다.
+-- KEYS[1]: Refresh_{userId}
+-- ARGV[1]: 현재 시각(ms)
+local kind = redis.call('TYPE', KEYS[1]).ok
+local sessions = {}
+if kind == 'hash' then
+    local entries = redis.call('HGETALL', KEYS[1])
+    for i = 1, #entries, 2 do
+        local value = entries[i + 1]
+        table.insert(sessions, entries[i])
+        table.insert(sessions, string.sub(value, 1, string.find(value, ':', 1, true) - 1))
+    end
+elseif kind == 'string' then
+    -- 마이그레이션 전 단일 문자열 값은 '-' 기기 하나로 본다.
+    local ttl = redis.call('PTTL', KEYS[1])
+    if ttl > 0 then
+        table.insert(sessions, '-')
+        table.insert(sessions, tostring(tonumber(ARGV[1]) + ttl))
+    end
+end
+return sessions
@@ -0,0 +1,53 @@
+-- 한 기기의 리프레시 토큰 교체 (compare-and-swap, 기기의 만료 시각 유지)
+-- KEYS[1]: Refresh_{userId}
+-- ARGV[1]: 제시한 토큰의 기기 ID (did 가 없는 이전 토큰이면 '-')
+-- ARGV[2]: 새 토큰의 기기 ID (이전 토큰이면 새로 발급한 ID, 아니면 ARGV[1] 과 같다)
+-- ARGV[3]: 클라이언트가 제시한 리프레시 토큰의 저장 형식 (SHA-256 digest 또는 JSON)
+-- ARGV[4]: 제시한 토큰의 이전 JSON 저장 형식 (마이그레이션 전 값과 비교용)
+-- ARGV[5]: 새로 발급한 리프레시 토큰의 저장 형식
+-- ARGV[6]: 현재 시각(ms)
+-- 반환: 1 = 교체됨, 0 = 세션 없음(만료), -1 = 토큰 불일치
+local now = tonumber(ARGV[6])
+local kind = redis.call('TYPE', KEYS[1]).ok
+
+-- 마이그레이션 전 단일 문자열 값: 맞으면 해시로 바꾸고 새 기기 ID 로 옮긴다.
+if kind == 'string' then
+    if ARGV[1] ~= '-' then
+        return 0
+    end
+    local stored = redis.call('GET', KEYS[1])
+    if stored ~= ARGV[3] and stored ~= ARGV[4] then
+        return -1
+    end
+    local ttl = redis.call('PTTL', KEYS[1])
+    if ttl <= 0 then
+        return 0
+    end
+    redis.call('DEL', KEYS[1])
+    redis.call('HSET', KEYS[1], ARGV[2], (now + ttl) .. ':' .. ARGV[5])
+    redis.call('PEXPIRE', KEYS[1], ttl)
+    return 1
+end
+if kind ~= 'hash' then
+    return 0
+end
+
+local entry = redis.call('HGET', KEYS[1], ARGV[1])
+if not entry then
+    return 0
+end
+local separator = string.find(entry, ':', 1, true)
+local expiresAt = string.sub(entry, 1, separator - 1)
+if tonumber(expiresAt) <= now then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    return 0
+end
+local stored = string.sub(entry, separator + 1)
+if stored ~= ARGV[3] and stored ~= ARGV[4] then
+    return -1
+end
+if ARGV[1] ~= ARGV[2] then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+end
+redis.call('HSET', KEYS[1], ARGV[2], expiresAt .. ':' .. ARGV[5])
+return 1
@@ -0,0 +1,44 @@
+-- 로그인한 기기의 리프레시 세션 저장
+-- KEYS[1]: Refresh_{userId} (해시. 필드 = 기기 ID, 값 = "만료시각(ms):토큰 저장 형식")
+-- ARGV[1]: 기기 ID
+-- ARGV[2]: 새 리프레시 토큰의 저장 형식 (SHA-256 digest 또는 JSON)
+-- ARGV[3]: 현재 시각(ms)
+-- ARGV[4]: 리프레시 토큰 수명(ms)
+-- ARGV[5]: 사용자당 최대 기기 수
+-- 반환: 한도를 넘어 밀려난 기기 수
+local now = tonumber(ARGV[3])
+
+-- 마이그레이션 전 단일 문자열 값은 '-' 기기로 옮겨 기존 세션을 유지한다.
+if redis.call('TYPE', KEYS[1]).ok == 'string' then
+    local legacy = redis.call('GET', KEYS[1])
+    local ttl = redis.call('PTTL', KEYS[1])
+    redis.call('DEL', KEYS[1])
+    if ttl > 0 then
+        redis.call('HSET', KEYS[1], '-', (now + ttl) .. ':' .. legacy)
+    end
+end
+
+-- 만료된 기기는 지우고, 남은 다른 기기는 만료 시각(= 로그인 순서) 순으로 정렬한다.
+local entries = redis.call('HGETALL', KEYS[1])
+local devices = {}
+for i = 1, #entries, 2 do
+    local value = entries[i + 1]
+    local expiresAt = tonumber(string.sub(value, 1, string.find(value, ':', 1, true) - 1))
+    if expiresAt <= now then
+        redis.call('HDEL', KEYS[1], entries[i])
+    elseif entries[i] ~= ARGV[1] then
+        table.insert(devices, { entries[i], expiresAt })
+    end
+end
+table.sort(devices, function(a, b) return a[2] < b[2] end)
+
+local evicted = 0
+for i = 1, #devices - tonumber(ARGV[5]) + 1 do
+    redis.call('HDEL', KEYS[1], devices[i][1])
+    evicted = evicted + 1
+end
+
+-- 새 세션의 만료 시각이 가장 늦으므로 키 TTL 은 새 세션에 맞춘다.
+redis.call('HSET', KEYS[1], ARGV[1], (now + tonumber(ARGV[4])) .. ':' .. ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+return evicted
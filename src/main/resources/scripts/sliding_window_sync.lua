@@ -0,0 +1,14 @@
+-- KEYS[1]: 현재 윈도 카운터, KEYS[2]: 이전 윈도 카운터
+-- ARGV[1]: 이 노드에서 센 증가분, ARGV[2]: 카운터 TTL(ms)
+-- 반환: {현재 윈도 합계, 이전 윈도 합계}
+local current
+if tonumber(ARGV[1]) > 0 then
+    current = redis.call('INCRBY', KEYS[1], ARGV[1])
+    if redis.call('PTTL', KEYS[1]) < 0 then
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    end
+else
+    current = tonumber(redis.call('GET', KEYS[1]) or '0')
+end
+local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+return {current, previous}
@@ -0,0 +1,56 @@
+package com.example.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testNoFalseNegatives() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("nickname" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("nickname" + i));
+        }
+        assertEquals(10_000, filter.insertions());
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then - 목표 1%, 여유를 두고 2% 이하
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+    }
+
+    @Test
+    void testSizing() {
+        // Given & When - 1% 오탐률이면 원소당 약 9.6비트, 해시 7개
+        BloomFilter filter = BloomFilter.create(1_000_000, 0.01);
+
+        // Then
+        assertEquals(7, filter.hashCount());
+        assertTrue(filter.memoryBytes() < 1_300_000);
+    }
+}
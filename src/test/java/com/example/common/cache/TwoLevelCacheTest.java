@@ -0,0 +1,87 @@
+package com.example.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache local;
+
+    private ConcurrentMapCache shared;
+
+    private final List<String> published = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        local = new ConcurrentMapCache("users");
+        shared = new ConcurrentMapCache("users");
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache("users", local, shared,
+                (name, key) -> published.add(name + ":" + key), meterRegistry);
+    }
+
+    @Test
+    void testSharedHitFillsLocalTier() {
+        // Given - 다른 노드가 공유 캐시에 넣은 값
+        shared.put("1", "value");
+
+        // When
+        assertEquals("value", cache.get("1", String.class));
+
+        // Then
+        assertEquals("value", local.get("1", String.class));
+        assertEquals(1.0, meterRegistry.get("cache.tier.gets").tag("result", "shared").counter().count());
+    }
+
+    @Test
+    void testEvictClearsBothTiersAndPublishes() {
+        // Given
+        cache.put("1", "value");
+
+        // When
+        cache.evict("1");
+
+        // Then
+        assertNull(local.get("1"));
+        assertNull(shared.get("1"));
+        assertEquals(List.of("users:1"), published);
+    }
+
+    @Test
+    void testEvictLocalKeepsSharedTier() {
+        // Given
+        cache.put("1", "value");
+
+        // When - 다른 노드의 무효화 메시지
+        cache.evictLocal("1");
+
+        // Then
+        assertNull(local.get("1"));
+        assertNotNull(shared.get("1"));
+        assertTrue(published.isEmpty());
+    }
+
+    @Test
+    void testWorksWithoutSharedTier() {
+        // Given
+        cache = new TwoLevelCache("users", local, null, (name, key) -> published.add(name + ":" + key), meterRegistry);
+
+        // When
+        cache.put("1", "value");
+
+        // Then
+        assertEquals("value", cache.get("1", String.class));
+        assertNull(cache.get("2"));
+    }
+}
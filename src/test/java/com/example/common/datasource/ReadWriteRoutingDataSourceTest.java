@@ -0,0 +1,112 @@
+package com.example.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+
+    private DataSource replica;
+
+    private Connection primaryConnection;
+
+    private Connection replicaConnection;
+
+    private ResultSet replicaStatus;
+
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        Statement statement = mock(Statement.class);
+        replicaStatus = mock(ResultSet.class);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(replicaStatus);
+
+        lagMonitor = new ReplicaLagMonitor(replica, 1, false, new SimpleMeterRegistry());
+        routingDataSource = new ReadWriteRoutingDataSource(primary, replica, lagMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        lagMonitor.destroy();
+    }
+
+    @Test
+    void testReadOnlyTransactionGoesToReplica() throws SQLException {
+        // Given - 지연 0초
+        replicaLag(0);
+        lagMonitor.check();
+
+        // When & Then
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertSame(replicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void testLaggingReplicaFallsBackToPrimary() throws SQLException {
+        // Given - 허용치(1초)보다 큰 지연
+        replicaLag(30);
+        lagMonitor.check();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When & Then
+        assertFalse(lagMonitor.isReplicaUsable());
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void testReplicaConnectionFailureFallsBackToPrimary() throws SQLException {
+        // Given
+        replicaLag(0);
+        lagMonitor.check();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenThrow(new SQLException("replica down"));
+
+        // When & Then - 다음 확인 전까지 primary 만 사용
+        assertSame(primaryConnection, routingDataSource.getConnection());
+        assertFalse(lagMonitor.isReplicaUsable());
+    }
+
+    @Test
+    void testStandaloneInstanceIsNotUsedByDefault() throws SQLException {
+        // Given - SHOW REPLICA STATUS 결과 없음
+        when(replicaStatus.next()).thenReturn(false);
+
+        // When
+        lagMonitor.check();
+
+        // Then
+        assertFalse(lagMonitor.isReplicaUsable());
+    }
+
+    private void replicaLag(long seconds) throws SQLException {
+        when(replicaStatus.next()).thenReturn(true);
+        when(replicaStatus.getLong("Seconds_Behind_Source")).thenReturn(seconds);
+        when(replicaStatus.wasNull()).thenReturn(false);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.common.exception;
+
+import com.example.common.ApiResponse;
+import com.example.common.ErrorStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponseBodiesTest {
+
+    private ObjectMapper objectMapper;
+
+    private ErrorResponseBodies errorResponseBodies;
+
+    @BeforeEach
+    void setUp() {
+        // 스프링 부트 기본 ObjectMapper 와 같은 날짜 직렬화 설정
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        errorResponseBodies = new ErrorResponseBodies(objectMapper);
+    }
+
+    @Test
+    void testBodyMatchesSerializedApiResponse() throws Exception {
+        for (ErrorStatus status : ErrorStatus.values()) {
+            // Given
+            JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(
+                    ApiResponse.createError(status.getHttpStatus().value(), status.getMessage())));
+
+            // When
+            byte[] body = errorResponseBodies.body(status);
+
+            // Then - timestamp 를 제외하면 일반 직렬화 결과와 같다.
+            assertNotNull(body, status.name());
+            JsonNode actual = objectMapper.readTree(body);
+            LocalDateTime.parse(actual.get("timestamp").asText());
+            ((ObjectNode) expected).remove("timestamp");
+            ((ObjectNode) actual).remove("timestamp");
+            assertEquals(expected, actual, status.name());
+        }
+    }
+
+    @Test
+    void testFallsBackWhenTimestampIsNotString() {
+        // Given - 날짜를 숫자 배열로 쓰는 설정이면 미리 만들 수 없다.
+        ErrorResponseBodies bodies = new ErrorResponseBodies(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+        // When & Then
+        assertNull(bodies.body(ErrorStatus.INVALID_CREDENTIALS));
+    }
+
+    @Test
+    void testApiExceptionHasNoStackTrace() {
+        // When
+        ApiException exception = new ApiException(ErrorStatus.INVALID_CREDENTIALS);
+
+        // Then
+        assertEquals(0, exception.getStackTrace().length);
+        assertSame(ErrorStatus.INVALID_CREDENTIALS.getCauseHttpStatus(), ErrorStatus.INVALID_CREDENTIALS.getCauseHttpStatus());
+    }
+}
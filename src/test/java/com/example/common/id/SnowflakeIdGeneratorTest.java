@@ -0,0 +1,68 @@
+package com.example.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void testIdsAreUniqueAndIncreasing() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+        // When - 밀리초당 시퀀스(4096)를 넘길 만큼 생성
+        long previous = 0;
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            long id = generator.nextId();
+
+            // Then
+            assertTrue(id > previous);
+            assertTrue(ids.add(id));
+            previous = id;
+        }
+    }
+
+    @Test
+    void testUniqueAcrossThreads() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // When
+        IntStream.range(0, 50_000).parallel().forEach(i -> ids.add(generator.nextId()));
+
+        // Then
+        assertEquals(50_000, ids.size());
+    }
+
+    @Test
+    void testNodeIdIsEncoded() {
+        // Given
+        SnowflakeIdGenerator node3 = new SnowflakeIdGenerator(3);
+
+        // When
+        long id = node3.nextId();
+
+        // Then - 하위 12비트는 시퀀스, 그 위 10비트가 노드
+        assertEquals(3, (id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID);
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024));
+    }
+
+    @Test
+    void testNodeIdMustBeConfigured() {
+        // When & Then - 설정이 없으면 호스트 이름 등으로 추측하지 않고 기동에 실패한다.
+        assertEquals(7, SnowflakeIdGenerator.resolveNodeId(Map.of(SnowflakeIdGenerator.NODE_ID_SETTING, " 7 ")));
+        assertThrows(IllegalStateException.class, () -> SnowflakeIdGenerator.resolveNodeId(Map.of()));
+        assertThrows(IllegalStateException.class,
+                () -> SnowflakeIdGenerator.resolveNodeId(Map.of(SnowflakeIdGenerator.NODE_ID_SETTING, "")));
+        assertEquals(0, SnowflakeIdGenerator.resolveNodeId(Map.of(SnowflakeIdGenerator.SINGLE_INSTANCE_SETTING, "true")));
+    }
+}
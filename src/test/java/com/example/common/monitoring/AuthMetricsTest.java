@@ -0,0 +1,62 @@
+package com.example.common.monitoring;
+
+import com.example.common.ErrorStatus;
+import com.example.common.exception.ApiException;
+import com.example.common.monitoring.AuthMetrics.Stage;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AuthMetrics authMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authMetrics = new AuthMetrics(meterRegistry);
+    }
+
+    @Test
+    void testRecordsSuccessAndResultBasedOutcome() {
+        // When
+        authMetrics.record(Stage.USER_LOOKUP, () -> "user");
+        authMetrics.record(Stage.PASSWORD_VERIFY, () -> false,
+                matched -> matched ? AuthMetrics.SUCCESS : AuthMetrics.BAD_CREDENTIALS);
+
+        // Then
+        assertEquals(1, timer("user_lookup", AuthMetrics.SUCCESS).count());
+        assertEquals(1, timer("password_verify", AuthMetrics.BAD_CREDENTIALS).count());
+    }
+
+    @Test
+    void testRecordsOutcomeOfExceptionAndRethrows() {
+        // When
+        ApiException exception = assertThrows(ApiException.class, () -> authMetrics.record(Stage.USER_LOOKUP, () -> {
+            throw new ApiException(ErrorStatus.NOT_FOUND_USER);
+        }));
+
+        // Then
+        assertEquals(ErrorStatus.NOT_FOUND_USER, exception.getErrorCode());
+        assertEquals(1, timer("user_lookup", "not_found_user").count());
+    }
+
+    @Test
+    void testOutcomeOfJwtExceptions() {
+        // When & Then
+        assertEquals(AuthMetrics.EXPIRED, AuthMetrics.outcomeOf(new ExpiredJwtException(null, null, "expired")));
+        assertEquals(AuthMetrics.INVALID, AuthMetrics.outcomeOf(new MalformedJwtException("malformed")));
+        assertEquals(AuthMetrics.ERROR, AuthMetrics.outcomeOf(new IllegalStateException()));
+    }
+
+    private Timer timer(String stage, String outcome) {
+        return meterRegistry.get(AuthMetrics.STAGE_TIMER).tag("stage", stage).tag("outcome", outcome).timer();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.common.monitoring.jfr;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthFlightRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testPruneKeepsNewestDumps() throws Exception {
+        // Given
+        Files.createFile(tempDir.resolve("auth-20260101-000000.jfr"));
+        Files.createFile(tempDir.resolve("auth-20260102-000000.jfr"));
+        Files.createFile(tempDir.resolve("auth-20260103-000000.jfr"));
+        Files.createFile(tempDir.resolve("other.jfr"));
+
+        // When
+        AuthFlightRecorder.pruneDumps(tempDir, 2);
+
+        // Then - 덤프가 아닌 파일은 건드리지 않는다.
+        assertFalse(Files.exists(tempDir.resolve("auth-20260101-000000.jfr")));
+        assertTrue(Files.exists(tempDir.resolve("auth-20260102-000000.jfr")));
+        assertTrue(Files.exists(tempDir.resolve("auth-20260103-000000.jfr")));
+        assertTrue(Files.exists(tempDir.resolve("other.jfr")));
+    }
+
+    @Test
+    void testPruneAlwaysKeepsLatestDump() throws Exception {
+        // Given
+        Files.createFile(tempDir.resolve("auth-20260101-000000.jfr"));
+        Files.createFile(tempDir.resolve("auth-20260102-000000.jfr"));
+
+        // When
+        AuthFlightRecorder.pruneDumps(tempDir, 0);
+
+        // Then
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+        assertTrue(Files.exists(tempDir.resolve("auth-20260102-000000.jfr")));
+    }
+}
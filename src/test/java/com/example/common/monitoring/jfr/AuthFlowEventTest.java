@@ -0,0 +1,138 @@
+package com.example.common.monitoring.jfr;
+
+import com.example.common.ErrorStatus;
+import com.example.common.exception.ApiException;
+import com.example.common.monitoring.AuthMetrics;
+import com.example.common.monitoring.AuthMetrics.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthFlowEventTest {
+
+    private static final String LOGIN_EVENT = "com.example.auth.Login";
+
+    @TempDir
+    Path tempDir;
+
+    private final AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        recording.enable(LoginEvent.class).withThreshold(Duration.ZERO);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    void testRecordsStagesUserIdAndOutcome() throws Exception {
+        // When
+        String result = AuthFlowEvent.trace(new LoginEvent(), () -> {
+            authMetrics.record(Stage.USER_LOOKUP, AuthMetrics.SUCCESS, 1_000_000);
+            AuthFlowEvent.recordUserId(42L);
+            authMetrics.record(Stage.PASSWORD_VERIFY, AuthMetrics.SUCCESS, 3_000_000);
+            return "ok";
+        });
+
+        // Then
+        assertEquals("ok", result);
+        List<RecordedEvent> events = loginEvents();
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(42L, event.getLong("userId"));
+        assertEquals(AuthMetrics.SUCCESS, event.getString("outcome"));
+        assertEquals(Duration.ofMillis(1), event.getDuration("userLookup"));
+        assertEquals(Duration.ofMillis(3), event.getDuration("passwordVerify"));
+    }
+
+    @Test
+    void testRecordsFailureOutcome() throws Exception {
+        // When
+        assertThrows(ApiException.class, () -> AuthFlowEvent.trace(new LoginEvent(), () -> {
+            throw new ApiException(ErrorStatus.INVALID_CREDENTIALS);
+        }));
+
+        // Then
+        List<RecordedEvent> events = loginEvents();
+        assertEquals(1, events.size());
+        assertEquals("invalid_credentials", events.get(0).getString("outcome"));
+    }
+
+    @Test
+    void testStagesOutsideFlowAreIgnored() throws Exception {
+        // When - 진행 중인 이벤트가 없으면 메트릭만 남는다.
+        authMetrics.record(Stage.USER_LOOKUP, AuthMetrics.SUCCESS, 1_000_000);
+
+        // Then
+        assertTrue(loginEvents().isEmpty());
+    }
+
+    @Test
+    void testReactiveTraceRecordsStagesFromOtherThreads() throws Exception {
+        // When - 단계마다 다른 스케줄러 스레드에서 기록한다.
+        String result = AuthFlowEvent.traceReactive(LoginEvent::new, event -> Mono.fromCallable(() -> AuthFlowEvent.within(event, () -> {
+                            authMetrics.record(Stage.USER_LOOKUP, AuthMetrics.SUCCESS, 1_000_000);
+                            AuthFlowEvent.recordUserId(42L);
+                            return "user";
+                        }))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .publishOn(Schedulers.parallel())
+                        .map(user -> {
+                            AuthFlowEvent.within(event, () -> authMetrics.record(Stage.REDIS_SAVE, AuthMetrics.SUCCESS, 2_000_000));
+                            return "ok";
+                        }))
+                .block();
+
+        // Then
+        assertEquals("ok", result);
+        List<RecordedEvent> events = loginEvents();
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(42L, event.getLong("userId"));
+        assertEquals(AuthMetrics.SUCCESS, event.getString("outcome"));
+        assertEquals(Duration.ofMillis(1), event.getDuration("userLookup"));
+        assertEquals(Duration.ofMillis(2), event.getDuration("redisSave"));
+    }
+
+    @Test
+    void testReactiveTraceRecordsFailureOutcome() throws Exception {
+        // When
+        Mono<String> flow = AuthFlowEvent.traceReactive(LoginEvent::new,
+                event -> Mono.error(new ApiException(ErrorStatus.INVALID_CREDENTIALS)));
+        assertThrows(ApiException.class, flow::block);
+
+        // Then
+        List<RecordedEvent> events = loginEvents();
+        assertEquals(1, events.size());
+        assertEquals("invalid_credentials", events.get(0).getString("outcome"));
+    }
+
+    private List<RecordedEvent> loginEvents() throws Exception {
+        recording.stop();
+        Path file = tempDir.resolve("test.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(LOGIN_EVENT))
+                .toList();
+    }
+}
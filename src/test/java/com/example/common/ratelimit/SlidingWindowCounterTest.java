@@ -0,0 +1,55 @@
+package com.example.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SlidingWindowCounterTest {
+
+    private static final long WINDOW = 60_000;
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    private final SlidingWindowCounter counter = new SlidingWindowCounter(redisTemplate, "rate:test:", Duration.ofMillis(WINDOW));
+
+    @Test
+    void testCountsLocallyWithoutRedis() {
+        // When & Then - 동기화 전에는 이 노드에서 센 값만으로 판단
+        assertEquals(0, counter.tryAcquire("ip:1.2.3.4", 2, 0));
+        assertEquals(0, counter.tryAcquire("ip:1.2.3.4", 2, 0));
+        assertEquals(WINDOW - 1_000, counter.tryAcquire("ip:1.2.3.4", 2, 1_000));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void testUsesClusterTotalsAfterSync() {
+        // Given - 다른 노드들이 현재 윈도에 9건을 보냈다.
+        counter.tryAcquire("ip:1.2.3.4", 10, 0);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(List.of(10L, 0L)));
+
+        // When
+        counter.sync(0);
+
+        // Then
+        assertEquals(10, counter.estimate("ip:1.2.3.4", 0));
+        assertTrue(counter.tryAcquire("ip:1.2.3.4", 10, 0) > 0);
+    }
+
+    @Test
+    void testPreviousWindowIsWeightedByRemainingTime() {
+        // Given - 이전 윈도에 100건
+        counter.tryAcquire("user:alice", 1_000, WINDOW);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(List.of(1L, 100L)));
+        counter.sync(WINDOW);
+
+        // When & Then - 현재 윈도의 1/4 이 지났으면 이전 윈도의 3/4 만 센다.
+        assertEquals(76, counter.estimate("user:alice", WINDOW + WINDOW / 4));
+    }
+}
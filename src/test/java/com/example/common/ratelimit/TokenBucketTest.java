@@ -0,0 +1,83 @@
+package com.example.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testAllowsBurstUpToCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(1), 0);
+
+        // When & Then
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(SECOND, bucket.tryAcquire(0));
+    }
+
+    @Test
+    void testRefillsOneTokenPerInterval() {
+        // Given - 버킷을 비운다.
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1), 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        // When & Then
+        assertEquals(SECOND / 2, bucket.tryAcquire(SECOND / 2));
+        assertEquals(0, bucket.tryAcquire(SECOND));
+        assertTrue(bucket.tryAcquire(SECOND) > 0);
+    }
+
+    @Test
+    void testIdleBucketDoesNotExceedCapacity() {
+        // Given - 오래 쉬어도 capacity 이상 쌓이지 않는다.
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(1), 0);
+        long later = 100 * SECOND;
+
+        // When & Then
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+
+    @Test
+    void testConcurrentAcquireNeverExceedsCapacity() throws Exception {
+        // Given
+        TokenBucket bucket = new TokenBucket(100, Duration.ofHours(1), 0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger acquired = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (bucket.tryAcquire(0) == 0) {
+                    acquired.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(100, acquired.get());
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.common.redis;
+
+import io.lettuce.core.KillArgs;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 redis-server 에서 RefreshTokenStore 가 쓰는 해시 캐싱(prefetchHash/peekHash)과 추적 무효화를 확인한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisNearCacheTest {
+
+    private static final String KEY = "Refresh_1";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:6.2").withExposedPorts(6379);
+
+    private RedisNearCache nearCache;
+
+    private RedisClient writerClient;
+
+    private StatefulRedisConnection<String, String> writer;
+
+    @BeforeEach
+    void setUp() {
+        writerClient = RedisClient.create("redis://" + REDIS.getHost() + ":" + REDIS.getMappedPort(6379));
+        writer = writerClient.connect();
+        writer.sync().flushall();
+
+        nearCache = new RedisNearCache(REDIS.getHost(), REDIS.getMappedPort(6379), 100, new SimpleMeterRegistry());
+        nearCache.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nearCache.destroy();
+        writer.close();
+        writerClient.shutdown();
+    }
+
+    @Test
+    void testInvalidatedWhenAnotherClientAddsField() {
+        // Given
+        writer.sync().hset(KEY, "device-1", "1000:stored");
+        cache(KEY);
+        assertArrayEquals("1000:stored".getBytes(), nearCache.peekHash(KEY).get("device-1"));
+
+        // When - 다른 연결(다른 노드)에서 필드를 추가하면
+        writer.sync().hset(KEY, "device-2", "2000:stored");
+
+        // Then - 서버의 invalidate 메시지로 해시 전체가 지워진다.
+        awaitTrue(() -> nearCache.peekHash(KEY) == null);
+    }
+
+    @Test
+    void testInvalidatedWhenAnotherClientRemovesField() {
+        // Given
+        writer.sync().hset(KEY, "device-1", "1000:stored");
+        writer.sync().hset(KEY, "device-2", "2000:stored");
+        cache(KEY);
+
+        // When
+        writer.sync().hdel(KEY, "device-1");
+
+        // Then
+        awaitTrue(() -> nearCache.peekHash(KEY) == null);
+    }
+
+    @Test
+    void testCachesMissingKeyUntilCreated() {
+        // Given - 세션이 없는 사용자 (부정 캐시)
+        cache(KEY);
+        assertNull(nearCache.peekHash(KEY).get("device-1"));
+
+        // When - 로그인으로 세션이 생기면
+        writer.sync().hset(KEY, "device-1", "1000:stored");
+
+        // Then
+        awaitTrue(() -> nearCache.peekHash(KEY) == null);
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        // When
+        for (int i = 0; i < 150; i++) {
+            nearCache.prefetchHash(KEY + i);
+        }
+
+        // Then
+        assertTrue(nearCache.size() <= 100);
+    }
+
+    @Test
+    void testClearedWhenTrackingConnectionIsLost() {
+        // Given
+        writer.sync().hset(KEY, "device-1", "1000:stored");
+        cache(KEY);
+
+        // When - 끊긴 동안의 무효화는 받을 수 없다.
+        writer.sync().clientKill(KillArgs.Builder.id(trackingClientId()));
+
+        // Then - 캐시를 비우고, 재연결 후 추적을 다시 켜면 다시 채울 수 있다.
+        awaitTrue(() -> nearCache.size() == 0);
+        awaitTrue(() -> {
+            nearCache.prefetchHash(KEY);
+            return nearCache.peekHash(KEY) != null;
+        });
+    }
+
+    private void cache(String key) {
+        nearCache.prefetchHash(key);
+        awaitTrue(() -> nearCache.peekHash(key) != null);
+    }
+
+    // CLIENT LIST 에서 이름으로 추적 연결의 id 를 찾는다.
+    private long trackingClientId() {
+        for (String client : writer.sync().clientList().split("\n")) {
+            if (client.contains("name=" + RedisNearCache.CLIENT_NAME + " ")) {
+                String id = client.substring(client.indexOf("id=") + 3);
+                return Long.parseLong(id.substring(0, id.indexOf(' ')));
+            }
+        }
+        return fail("tracking connection not found");
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        for (int i = 0; i < 100; i++) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        fail("condition was not met in time");
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 MySQL 에서 application-local.yml 과 같은 Flyway 설정으로 V1, V2 를 적용해 본다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class V2__Name_user_unique_indexesTest {
+
+    private static final Set<String> EXPECTED_INDEXES = Set.of("uk_users_nickname", "uk_users_username");
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        execute("DROP TABLE IF EXISTS users",
+                "DROP TABLE IF EXISTS flyway_schema_history");
+    }
+
+    @Test
+    void testFreshSchema() throws SQLException {
+        // When
+        flyway().migrate();
+
+        // Then - V1 이 만든 이름 그대로 두고 V2 는 아무것도 바꾸지 않는다.
+        assertEquals(MigrationVersion.fromVersion("2"), flyway().info().current().getVersion());
+        assertEquals(EXPECTED_INDEXES, uniqueIndexes());
+    }
+
+    @Test
+    void testLegacySchemaWithGeneratedIndexNames() throws SQLException {
+        // Given - ddl-auto 가 만든 스키마. 아이디에는 같은 컬럼의 unique 인덱스가 두 개 있다.
+        execute("""
+                        CREATE TABLE users
+                        (
+                            user_id     BIGINT       NOT NULL,
+                            created_at  DATETIME(6),
+                            modified_at DATETIME(6),
+                            nickname    VARCHAR(255) NOT NULL,
+                            password    VARCHAR(255) NOT NULL,
+                            user_role   ENUM ('ROLE_ADMIN','ROLE_USER'),
+                            username    VARCHAR(255) NOT NULL,
+                            PRIMARY KEY (user_id)
+                        ) ENGINE = InnoDB""",
+                "ALTER TABLE users ADD CONSTRAINT UK_2ty1xmrrgtn89xt7kyxx6ta7h UNIQUE (nickname)",
+                "ALTER TABLE users ADD CONSTRAINT UK_r43af9ap4edm43mmtq01oddj6 UNIQUE (username)",
+                "ALTER TABLE users ADD CONSTRAINT UK_k8d0f2n7n88w1a16yhua64onx UNIQUE (username)",
+                "INSERT INTO users (user_id, nickname, password, user_role, username) VALUES (1, 'nick', 'hash', 'ROLE_USER', 'user')");
+
+        // When - baseline(V1) 위에 V2 만 적용된다.
+        flyway().migrate();
+
+        // Then
+        assertEquals(EXPECTED_INDEXES, uniqueIndexes());
+        assertEquals(1, count("SELECT COUNT(*) FROM users"));
+        assertThrows(SQLException.class,
+                () -> execute("INSERT INTO users (user_id, nickname, password, username) VALUES (2, 'nick', 'hash', 'other')"));
+    }
+
+    // application-local.yml 의 spring.flyway 설정과 같다.
+    private static Flyway flyway() {
+        return Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .locations("classpath:db/migration", "classpath:com/example/db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    private static Set<String> uniqueIndexes() throws SQLException {
+        Set<String> indexes = new TreeSet<>();
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("""
+                     SELECT DISTINCT index_name
+                       FROM information_schema.statistics
+                      WHERE table_schema = DATABASE()
+                        AND table_name = 'users'
+                        AND non_unique = 0
+                        AND index_name <> 'PRIMARY'
+                     """)) {
+            while (resultSet.next()) {
+                indexes.add(resultSet.getString(1));
+            }
+        }
+        return indexes;
+    }
+
+    private static long count(String query) throws SQLException {
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(query)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void execute(String... sqls) throws SQLException {
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private static Connection connection() throws SQLException {
+        return DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.domain.login.service;
+
+import com.example.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // IP: 3회, 1초마다 1회 회복 / 아이디: 2회, 10초마다 1회 회복
+        loginRateLimiter = new LoginRateLimiter(true, 3, Duration.ofSeconds(1), 300,
+                2, Duration.ofSeconds(10), 20, 1000, false, Duration.ofMinutes(1), Duration.ofMillis(200),
+                null, meterRegistry, nanos::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginRateLimiter.destroy();
+    }
+
+    @Test
+    void testLimitsClientIpAcrossUsernames() {
+        // Given - 같은 IP 에서 아이디를 바꿔 가며 시도
+        loginRateLimiter.check("10.0.0.1", "user1");
+        loginRateLimiter.check("10.0.0.1", "user2");
+        loginRateLimiter.check("10.0.0.1", "user3");
+
+        // When
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> loginRateLimiter.check("10.0.0.1", "user4"));
+
+        // Then - 다른 IP 는 영향을 받지 않는다.
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> loginRateLimiter.check("10.0.0.2", "user4"));
+        assertEquals(1.0, meterRegistry.get("auth.rate.limited").tag("tier", "local").counter().count());
+    }
+
+    @Test
+    void testLimitsUsernameAcrossClientIps() {
+        // Given - 여러 IP 에서 같은 아이디로 시도. 대소문자는 구분하지 않는다.
+        loginRateLimiter.check("10.0.0.1", "victim");
+        loginRateLimiter.check("10.0.0.2", "VICTIM");
+
+        // When
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> loginRateLimiter.check("10.0.0.3", "Victim"));
+
+        // Then
+        assertEquals(10, exception.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> loginRateLimiter.check("10.0.0.3", "someone-else"));
+    }
+
+    @Test
+    void testRecoversAfterRefillInterval() {
+        // Given
+        loginRateLimiter.check("10.0.0.1", "user");
+        loginRateLimiter.check("10.0.0.1", "user");
+        assertThrows(RateLimitExceededException.class, () -> loginRateLimiter.check("10.0.0.1", "user"));
+
+        // When
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // Then
+        assertDoesNotThrow(() -> loginRateLimiter.check("10.0.0.1", "user"));
+    }
+
+    @Test
+    void testEvictsIdleBuckets() {
+        // Given
+        loginRateLimiter.check("10.0.0.1", "user");
+        assertEquals(2, loginRateLimiter.trackedKeys());
+
+        // When - 버킷이 가득 찰 시간(아이디: 2 x 10초)이 지나도록 쓰이지 않으면
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(21));
+
+        // Then - 새로 만든 버킷과 같으므로 버린다.
+        assertEquals(0, loginRateLimiter.trackedKeys());
+    }
+
+    @Test
+    void testDisabledLimiterAllowsEverything() {
+        // Given
+        LoginRateLimiter disabled = new LoginRateLimiter(false, 1, Duration.ofSeconds(1), 300,
+                1, Duration.ofSeconds(10), 20, 1000, false, Duration.ofMinutes(1), Duration.ofMillis(200),
+                null, new SimpleMeterRegistry(), nanos::get);
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> disabled.check("10.0.0.1", "user"));
+        }
+    }
+}
@@ -2,16 +2,23 @@ package com.example.domain.login.service;
 
 import com.example.common.ErrorStatus;
 import com.example.common.exception.ApiException;
-import com.example.domain.entity.User;
+import com.example.common.monitoring.AuthMetrics;
 import com.example.domain.enums.TokenType;
 import com.example.domain.enums.UserRole;
 import com.example.domain.login.dto.request.LoginRequest;
 import com.example.domain.login.dto.response.LoginResponse;
-import com.example.domain.repository.UserRepository;
+import com.example.domain.user.dto.UserSnapshot;
+import com.example.domain.user.service.UserLookupService;
+import com.example.security.AuthUser;
+import com.example.security.JwtKeyRing;
 import com.example.security.JwtUtil;
+import com.example.security.JwtSigningProperties;
+import com.example.security.TokenRevocationList;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,16 +27,16 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -44,16 +51,25 @@ class LoginServiceTest {
     private LoginService loginService;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private RefreshTokenStore refreshTokenStore;
 
     @Mock
     private PasswordEncoder passwordEncoder;
 
     @Spy // spy로 변경
-    private JwtUtil jwtUtil = new JwtUtil(); // 초기화 필요
+    private JwtUtil jwtUtil = new JwtUtil(new JwtKeyRing(new JwtSigningProperties("HS256", null, List.of(), Duration.ofMinutes(5), true))); // 초기화 필요
 
     @Mock
-    private UserRepository userRepository;
+    private UserLookupService userLookupService;
+
+    @Mock
+    private PasswordRehashService passwordRehashService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Spy
+    private AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
 
     private static final String TEST_SECRET_KEY = "dXNlcktleUluQmFzZTY0Rm9ybWF0MTIzNDU2Nzg5MDEyMzQ1Njc4OTA=";
 
@@ -83,7 +99,7 @@ class LoginServiceTest {
         // Given
         LoginRequest request = new LoginRequest("testUser", "password");
 
-        User user = User.createUser("username", "nickname", "encodedPassword", UserRole.ROLE_ADMIN);
+        UserSnapshot user = new UserSnapshot(1L, "username", "nickname", "encodedPassword", UserRole.ROLE_ADMIN);
 
         String refreshToken = Jwts.builder()
                 .setSubject("1") // subject 강제 설정
@@ -93,12 +109,9 @@ class LoginServiceTest {
                 .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(TEST_SECRET_KEY)))
                 .compact();
 
-        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-
-        when(userRepository.findByUsername(eq("testUser"))).thenReturn(Optional.of(user));
+        when(userLookupService.findByUsername(eq("testUser"))).thenReturn(Optional.of(user));
         when(passwordEncoder.matches(eq("password"), eq("encodedPassword"))).thenReturn(true);
-        doReturn(refreshToken).when(jwtUtil).createRefreshToken(anyLong());
+        doReturn(refreshToken).when(jwtUtil).createRefreshToken(anyLong(), anyString());
 
         // When
         LoginResponse response = loginService.login(request);
@@ -111,6 +124,26 @@ class LoginServiceTest {
         assertEquals("nickname", accessTokenClaims.get("nickname", String.class));
         assertEquals("username", accessTokenClaims.get("userName", String.class));
         assertEquals("ROLE_ADMIN", accessTokenClaims.get("userRole", String.class));
+        String deviceId = accessTokenClaims.get("did", String.class);
+        assertNotNull(deviceId);
+        verify(passwordRehashService, times(1)).rehashIfNeeded(eq(1L), eq("password"), eq("encodedPassword"));
+        verify(refreshTokenStore, times(1)).save(eq(1L), eq(deviceId), eq(refreshToken));
+    }
+
+    @Test
+    void testLogin_KeepsDeviceIdFromRequest() {
+        // Given - 같은 기기에서 다시 로그인
+        LoginRequest request = new LoginRequest("testUser", "password", "phone-1234");
+        UserSnapshot user = new UserSnapshot(1L, "username", "nickname", "encodedPassword", UserRole.ROLE_USER);
+        when(userLookupService.findByUsername(eq("testUser"))).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(eq("password"), eq("encodedPassword"))).thenReturn(true);
+
+        // When
+        LoginResponse response = loginService.login(request);
+
+        // Then - 새 세션을 늘리지 않고 같은 기기 필드를 덮어쓴다.
+        assertEquals("phone-1234", jwtUtil.parse(response.getRefreshToken()).getDeviceId());
+        verify(refreshTokenStore, times(1)).save(eq(1L), eq("phone-1234"), eq(response.getRefreshToken()));
     }
 
 
@@ -118,7 +151,7 @@ class LoginServiceTest {
     void testLogin_UserNotFound() {
         // Given
         LoginRequest request = new LoginRequest("nonExistentUser", "password");
-        when(userRepository.findByUsername(anyString())).thenReturn(Optional.empty());
+        when(userLookupService.findByUsername(anyString())).thenReturn(Optional.empty());
 
         // When & Then
         ApiException exception = assertThrows(ApiException.class, () -> loginService.login(request));
@@ -136,13 +169,9 @@ class LoginServiceTest {
         doReturn("expiredRefreshToken")
                 .when(jwtUtil).substringToken(anyString());
 
-        // getCategory(...)도 doReturn(...)으로 완전 Stub
-        doReturn(TokenType.REFRESH.name())
-                .when(jwtUtil).getCategory(anyString());
-
-        // 만료된 토큰이라고 가정해서 isExpired(...) 시 예외 던짐
-        doThrow(new ApiException(ErrorStatus.EXPIRED_REFRESH_TOKEN))
-                .when(jwtUtil).isExpired(anyString());
+        // 만료된 토큰이라고 가정해서 parse(...) 시 jjwt 의 만료 예외를 던짐
+        doThrow(new ExpiredJwtException(null, null, "expired"))
+                .when(jwtUtil).parse(anyString());
 
         // When & Then
         ApiException ex = assertThrows(ApiException.class,
@@ -152,16 +181,134 @@ class LoginServiceTest {
     }
 
 
+    @Test
+    void testReissue_NotRefreshToken() {
+        // Given - createAccessToken 은 "Bearer " 접두사를 포함해서 반환
+        String tokenWithBearer = jwtUtil.createAccessToken(1L, "nickname", "username", UserRole.ROLE_USER, "device-1");
+
+        // When & Then
+        ApiException ex = assertThrows(ApiException.class,
+                () -> loginService.reissue(tokenWithBearer)
+        );
+        assertEquals(ErrorStatus.NOT_REFRESH_TOKEN, ex.getErrorCode());
+        verify(jwtUtil, times(1)).parse(anyString());
+    }
+
+
+    @Test
+    void testReissue_Success() {
+        // Given
+        String refreshToken = jwtUtil.createRefreshToken(1L, "device-1");
+        UserSnapshot user = new UserSnapshot(1L, "username", "nickname", "encodedPassword", UserRole.ROLE_USER);
+        when(userLookupService.findById(1L)).thenReturn(Optional.of(user));
+        when(refreshTokenStore.rotate(eq(1L), eq("device-1"), eq("device-1"), eq(refreshToken), anyString()))
+                .thenReturn(RefreshTokenStore.RotationResult.ROTATED);
+
+        // When
+        LoginResponse response = loginService.reissue(JwtUtil.BEARER_PREFIX + refreshToken);
+
+        // Then - 비교와 교체는 이 기기의 필드에 대해 스크립트 한 번으로 처리
+        assertNotNull(response.getAccessToken());
+        assertEquals("device-1", jwtUtil.parse(response.getRefreshToken()).getDeviceId());
+        verify(refreshTokenStore, times(1)).rotate(eq(1L), eq("device-1"), eq("device-1"),
+                eq(refreshToken), eq(response.getRefreshToken()));
+    }
+
+    @Test
+    void testReissue_LegacyTokenMovesToNewDevice() {
+        // Given - did 가 없는 이전 리프레시 토큰
+        String refreshToken = Jwts.builder()
+                .setSubject("1")
+                .claim("category", "REFRESH")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 600000))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(TEST_SECRET_KEY)))
+                .compact();
+        UserSnapshot user = new UserSnapshot(1L, "username", "nickname", "encodedPassword", UserRole.ROLE_USER);
+        when(userLookupService.findById(1L)).thenReturn(Optional.of(user));
+        when(refreshTokenStore.rotate(eq(1L), eq(RefreshTokenStore.LEGACY_DEVICE), anyString(), eq(refreshToken), anyString()))
+                .thenReturn(RefreshTokenStore.RotationResult.ROTATED);
+
+        // When
+        LoginResponse response = loginService.reissue(JwtUtil.BEARER_PREFIX + refreshToken);
+
+        // Then - 새 토큰에는 새로 발급한 기기 ID 가 들어간다.
+        String deviceId = jwtUtil.parse(response.getRefreshToken()).getDeviceId();
+        assertNotNull(deviceId);
+        verify(refreshTokenStore, times(1)).rotate(eq(1L), eq(RefreshTokenStore.LEGACY_DEVICE), eq(deviceId),
+                eq(refreshToken), eq(response.getRefreshToken()));
+    }
+
+
+    @Test
+    void testReissue_TokenMismatch() {
+        // Given - 다른 기기에서 이미 교체된 토큰
+        String refreshToken = jwtUtil.createRefreshToken(1L, "device-1");
+        UserSnapshot user = new UserSnapshot(1L, "username", "nickname", "encodedPassword", UserRole.ROLE_USER);
+        when(userLookupService.findById(1L)).thenReturn(Optional.of(user));
+        when(refreshTokenStore.rotate(eq(1L), eq("device-1"), eq("device-1"), eq(refreshToken), anyString()))
+                .thenReturn(RefreshTokenStore.RotationResult.MISMATCH);
+
+        // When & Then
+        ApiException ex = assertThrows(ApiException.class,
+                () -> loginService.reissue(JwtUtil.BEARER_PREFIX + refreshToken)
+        );
+        assertEquals(ErrorStatus.INVALID_REFRESH_TOKEN, ex.getErrorCode());
+    }
+
+
     @Test
     void testValidatePasswordMatch_InvalidPassword() {
         // Given
         LoginRequest loginRequest = new LoginRequest("username", "password");
-        User user = User.createUser("username","nickname", "password", UserRole.ROLE_USER);
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+        UserSnapshot user = new UserSnapshot(1L, "username", "nickname", "password", UserRole.ROLE_USER);
+        when(userLookupService.findByUsername("username")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
 
         // When & Then
         ApiException exception = assertThrows(ApiException.class, () -> loginService.login(loginRequest));
         assertEquals(ErrorStatus.INVALID_CREDENTIALS, exception.getErrorCode());
     }
+
+    @Test
+    void testLogout_RevokesAccessTokenAndDeletesOwnSession() {
+        // Given
+        Date expiresAt = new Date(System.currentTimeMillis() + TokenType.ACCESS.getLifeTime());
+        AuthUser authUser = new AuthUser(1L, "nickname", "username", UserRole.ROLE_USER, "token-id", expiresAt, "device-1");
+
+        // When
+        loginService.logout(authUser);
+
+        // Then - 다른 기기의 세션은 남긴다.
+        verify(tokenRevocationList).revoke("token-id", expiresAt);
+        verify(refreshTokenStore).delete(1L, "device-1");
+        verify(refreshTokenStore, never()).deleteAll(anyLong());
+    }
+
+    @Test
+    void testLogoutAll_DeletesEverySession() {
+        // Given
+        Date expiresAt = new Date(System.currentTimeMillis() + TokenType.ACCESS.getLifeTime());
+        AuthUser authUser = new AuthUser(1L, "nickname", "username", UserRole.ROLE_USER, "token-id", expiresAt, "device-1");
+
+        // When
+        loginService.logoutAll(authUser);
+
+        // Then
+        verify(tokenRevocationList).revoke("token-id", expiresAt);
+        verify(refreshTokenStore).deleteAll(1L);
+    }
+
+    @Test
+    void testLogout_LegacyTokenWithoutId() {
+        // Given - jti 가 없던 이전 형식의 토큰
+        AuthUser authUser = new AuthUser(1L, "nickname", "username", UserRole.ROLE_USER);
+
+        // When
+        loginService.logout(authUser);
+
+        // Then
+        verify(tokenRevocationList, never()).revoke(any(), any());
+        verify(refreshTokenStore).deleteAll(1L);
+    }
 }
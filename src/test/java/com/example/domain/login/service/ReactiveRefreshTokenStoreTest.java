@@ -0,0 +1,100 @@
+package com.example.domain.login.service;
+
+import com.example.common.redis.RedisNearCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveRefreshTokenStoreTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private ReactiveRedisTemplate<String, byte[]> reactiveRedisTemplate;
+
+    @Mock
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Mock
+    private ObjectProvider<RedisNearCache> nearCacheProvider;
+
+    @Mock
+    private RedisNearCache nearCache;
+
+    private ReactiveRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(nearCacheProvider.getIfAvailable()).thenReturn(nearCache);
+        store = new ReactiveRefreshTokenStore(reactiveRedisTemplate,
+                new RefreshTokenStore(redisTemplate, true, 5, nearCacheProvider));
+    }
+
+    @Test
+    void testSaveEvictsNearCache() {
+        // Given
+        when(reactiveRedisTemplate.execute(eq(RefreshTokenStore.SAVE_SCRIPT), anyList(), anyList()))
+                .thenReturn(Flux.just(0L));
+
+        // When
+        store.save(1L, "device-1", TOKEN).block();
+
+        // Then - 방금 로그인한 기기가 부정 캐시에 걸리지 않도록 서버 무효화를 기다리지 않고 지운다.
+        verify(nearCache).evict("Refresh_1");
+        verify(nearCache, never()).prefetchHash(anyString());
+    }
+
+    @Test
+    void testMissingResultIsCachedForReplays() {
+        // Given
+        when(reactiveRedisTemplate.execute(eq(RefreshTokenStore.ROTATE_SCRIPT), anyList(), anyList()))
+                .thenReturn(Flux.just(0L));
+
+        // When
+        RefreshTokenStore.RotationResult result = store.rotate(1L, "device-1", "device-1", TOKEN, "new.token.value").block();
+
+        // Then
+        assertEquals(RefreshTokenStore.RotationResult.MISSING, result);
+        verify(nearCache).prefetchHash("Refresh_1");
+    }
+
+    @Test
+    void testRotatedResultEvictsNearCache() {
+        // Given
+        when(reactiveRedisTemplate.execute(eq(RefreshTokenStore.ROTATE_SCRIPT), anyList(), anyList()))
+                .thenReturn(Flux.just(1L));
+
+        // When
+        RefreshTokenStore.RotationResult result = store.rotate(1L, "device-1", "device-1", TOKEN, "new.token.value").block();
+
+        // Then
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED, result);
+        verify(nearCache).evict("Refresh_1");
+    }
+
+    @Test
+    void testRotateRejectsRemovedDeviceFromNearCache() {
+        // Given - 캐시된 해시에 이 기기가 없다
+        when(nearCache.peekHash("Refresh_1")).thenReturn(new RedisNearCache.CachedHash(Map.of()));
+
+        // When
+        RefreshTokenStore.RotationResult result = store.rotate(1L, "device-1", "device-1", TOKEN, "new.token.value").block();
+
+        // Then
+        assertEquals(RefreshTokenStore.RotationResult.MISSING, result);
+        verifyNoInteractions(reactiveRedisTemplate);
+    }
+}
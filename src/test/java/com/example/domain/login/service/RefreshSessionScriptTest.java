@@ -0,0 +1,145 @@
+package com.example.domain.login.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 실제 Redis 에서 리프레시 세션 Lua 스크립트(save/rotate/list)와 기기별 삭제를 확인한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshSessionScriptTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String TOKEN = "header.payload.signature";
+    private static final String NEW_TOKEN = "header.payload.new-signature";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:6.2").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static RedisTemplate<String, byte[]> redisTemplate;
+
+    private RefreshTokenStore store;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        // RedisConfig.refreshTokenRedisTemplate 과 같은 직렬화 설정
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(RedisSerializer.byteArray());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate.delete(RefreshTokenStore.key(USER_ID));
+        store = new RefreshTokenStore(redisTemplate, true, 5, mock(ObjectProvider.class));
+    }
+
+    @Test
+    void testRotateWithMatchingToken() {
+        // Given
+        store.save(USER_ID, "device-1", TOKEN);
+
+        // When
+        RefreshTokenStore.RotationResult result = store.rotate(USER_ID, "device-1", "device-1", TOKEN, NEW_TOKEN);
+
+        // Then - 새 토큰으로 다시 교체할 수 있다.
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED, result);
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED,
+                store.rotate(USER_ID, "device-1", "device-1", NEW_TOKEN, "header.payload.third"));
+    }
+
+    @Test
+    void testRotateWithStaleToken() {
+        // Given - 이미 교체된 토큰을 다시 제시
+        store.save(USER_ID, "device-1", TOKEN);
+        store.rotate(USER_ID, "device-1", "device-1", TOKEN, NEW_TOKEN);
+
+        // When
+        RefreshTokenStore.RotationResult result = store.rotate(USER_ID, "device-1", "device-1", TOKEN, "header.payload.other");
+
+        // Then - 저장된 토큰은 그대로다.
+        assertEquals(RefreshTokenStore.RotationResult.MISMATCH, result);
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED,
+                store.rotate(USER_ID, "device-1", "device-1", NEW_TOKEN, "header.payload.third"));
+    }
+
+    @Test
+    void testRotateExpiredField() {
+        // Given - 다른 기기는 살아 있어 키 TTL 이 남았지만 이 기기의 필드는 만료됨
+        store.save(USER_ID, "device-2", NEW_TOKEN);
+        redisTemplate.opsForHash().put(RefreshTokenStore.key(USER_ID), "device-1",
+                entry(System.currentTimeMillis() - 1000, RefreshTokenStore.digest(TOKEN)));
+
+        // When
+        RefreshTokenStore.RotationResult result = store.rotate(USER_ID, "device-1", "device-1", TOKEN, "header.payload.other");
+
+        // Then - 만료된 필드는 지워진다.
+        assertEquals(RefreshTokenStore.RotationResult.MISSING, result);
+        assertFalse(redisTemplate.opsForHash().hasKey(RefreshTokenStore.key(USER_ID), "device-1"));
+        assertEquals(List.of("device-2"), deviceIds());
+    }
+
+    @Test
+    void testDeleteRemovesOnlyThatDevice() {
+        // Given
+        store.save(USER_ID, "device-1", TOKEN);
+        store.save(USER_ID, "device-2", NEW_TOKEN);
+
+        // When
+        store.delete(USER_ID, "device-1");
+
+        // Then
+        assertEquals(List.of("device-2"), deviceIds());
+        assertEquals(RefreshTokenStore.RotationResult.MISSING,
+                store.rotate(USER_ID, "device-1", "device-1", TOKEN, "header.payload.other"));
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED,
+                store.rotate(USER_ID, "device-2", "device-2", NEW_TOKEN, "header.payload.other"));
+    }
+
+    private List<String> deviceIds() {
+        return store.sessions(USER_ID).stream().map(RefreshTokenStore.Session::deviceId).toList();
+    }
+
+    // 스크립트가 저장하는 "만료시각(ms):토큰 저장 형식" 값
+    private static byte[] entry(long expiresAt, byte[] stored) {
+        byte[] prefix = (expiresAt + ":").getBytes(StandardCharsets.US_ASCII);
+        byte[] value = new byte[prefix.length + stored.length];
+        System.arraycopy(prefix, 0, value, 0, prefix.length);
+        System.arraycopy(stored, 0, value, prefix.length, stored.length);
+        return value;
+    }
+}
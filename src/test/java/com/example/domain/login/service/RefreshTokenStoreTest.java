@@ -0,0 +1,178 @@
+package com.example.domain.login.service;
+
+import com.example.common.redis.RedisNearCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Mock
+    private ObjectProvider<RedisNearCache> nearCacheProvider;
+
+    private RefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RefreshTokenStore(redisTemplate, true, 5, nearCacheProvider);
+    }
+
+    @Test
+    void testSaveArgsStoreDigestOnly() {
+        // When
+        List<byte[]> args = store.saveArgs("device-1", TOKEN, 1000L);
+
+        // Then - 토큰 길이와 무관하게 32바이트만 저장하고, 기기 수 한도를 함께 넘긴다.
+        assertEquals("device-1", ascii(args.get(0)));
+        assertEquals(32, args.get(1).length);
+        assertEquals("1000", ascii(args.get(2)));
+        assertEquals("5", ascii(args.get(4)));
+    }
+
+    @Test
+    void testRotateArgsAcceptLegacyJsonValue() {
+        // When
+        List<byte[]> args = store.rotateArgs(RefreshTokenStore.LEGACY_DEVICE, "device-2", TOKEN, "new.token.value", 1000L);
+
+        // Then - 네 번째 인자는 기존 redisTemplate 이 저장하던 JSON 값과 같다.
+        assertEquals(RefreshTokenStore.LEGACY_DEVICE, ascii(args.get(0)));
+        assertEquals("device-2", ascii(args.get(1)));
+        assertArrayEquals(RefreshTokenStore.digest(TOKEN), args.get(2));
+        assertArrayEquals(new GenericJackson2JsonRedisSerializer().serialize(TOKEN), args.get(3));
+        assertArrayEquals(RefreshTokenStore.digest("new.token.value"), args.get(4));
+    }
+
+    @Test
+    void testNonCompactModeKeepsJsonValue() {
+        // Given
+        store = new RefreshTokenStore(redisTemplate, false, 5, nearCacheProvider);
+
+        // When & Then
+        assertArrayEquals(new GenericJackson2JsonRedisSerializer().serialize(TOKEN), store.storedValue(TOKEN));
+    }
+
+    @Test
+    void testRotateLeavesMismatchDecisionToScript() {
+        // Given - 캐시된 해시가 오래되어 이 기기의 토큰이 다르게 보인다
+        RedisNearCache nearCache = mock(RedisNearCache.class);
+        when(nearCacheProvider.getIfAvailable()).thenReturn(nearCache);
+        store = new RefreshTokenStore(redisTemplate, true, 5, nearCacheProvider);
+        when(nearCache.peekHash("Refresh_1")).thenReturn(new RedisNearCache.CachedHash(Map.of(
+                "device-1", entry(System.currentTimeMillis() + 60_000, RefreshTokenStore.digest("stale.token.value")))));
+        when(redisTemplate.execute(eq(RefreshTokenStore.ROTATE_SCRIPT), anyList(), any(Object[].class))).thenReturn(1L);
+
+        // When
+        RefreshTokenStore.RotationResult result = store.rotate(1L, "device-1", "device-1", TOKEN, "new.token.value");
+
+        // Then - 스크립트가 교체에 성공하고, 이 노드가 쓴 키는 캐시에서 지운다.
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED, result);
+        verify(nearCache).evict("Refresh_1");
+        verify(nearCache, never()).prefetchHash(anyString());
+    }
+
+    @Test
+    void testSaveEvictsWithoutPrefetch() {
+        // Given
+        RedisNearCache nearCache = mock(RedisNearCache.class);
+        when(nearCacheProvider.getIfAvailable()).thenReturn(nearCache);
+        store = new RefreshTokenStore(redisTemplate, true, 5, nearCacheProvider);
+
+        // When
+        store.save(1L, "device-1", TOKEN);
+
+        // Then - 로그인마다 Redis 읽기를 추가하지 않는다.
+        verify(nearCache).evict("Refresh_1");
+        verify(nearCache, never()).prefetchHash(anyString());
+    }
+
+    @Test
+    void testMissingResultIsCachedForReplays() {
+        // Given
+        RedisNearCache nearCache = mock(RedisNearCache.class);
+        when(nearCacheProvider.getIfAvailable()).thenReturn(nearCache);
+        store = new RefreshTokenStore(redisTemplate, true, 5, nearCacheProvider);
+        when(redisTemplate.execute(eq(RefreshTokenStore.ROTATE_SCRIPT), anyList(), any(Object[].class))).thenReturn(0L);
+
+        // When
+        RefreshTokenStore.RotationResult result = store.rotate(1L, "device-1", "device-1", TOKEN, "new.token.value");
+
+        // Then
+        assertEquals(RefreshTokenStore.RotationResult.MISSING, result);
+        verify(nearCache).prefetchHash("Refresh_1");
+    }
+
+    @Test
+    void testRotateRejectsRemovedDeviceFromNearCache() {
+        // Given - 한도를 넘어 밀려났거나 로그아웃한 기기
+        RedisNearCache nearCache = mock(RedisNearCache.class);
+        when(nearCacheProvider.getIfAvailable()).thenReturn(nearCache);
+        store = new RefreshTokenStore(redisTemplate, true, 5, nearCacheProvider);
+        when(nearCache.peekHash("Refresh_1")).thenReturn(new RedisNearCache.CachedHash(Map.of(
+                "device-2", entry(System.currentTimeMillis() + 60_000, RefreshTokenStore.digest(TOKEN)))));
+
+        // When
+        RefreshTokenStore.RotationResult result = store.rotate(1L, "device-1", "device-1", TOKEN, "new.token.value");
+
+        // Then
+        assertEquals(RefreshTokenStore.RotationResult.MISSING, result);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void testParseSessionsSkipsExpiredAndSortsOldestFirst() {
+        // Given - 스크립트 결과: 기기 ID, 만료 시각이 번갈아 온다.
+        List<byte[]> result = List.of(
+                bytes("device-2"), bytes("3000"),
+                bytes("expired"), bytes("500"),
+                bytes("device-1"), bytes("2000"));
+
+        // When
+        List<RefreshTokenStore.Session> sessions = RefreshTokenStore.parseSessions(result, 1000L);
+
+        // Then
+        assertEquals(List.of(new RefreshTokenStore.Session("device-1", 2000L),
+                new RefreshTokenStore.Session("device-2", 3000L)), sessions);
+    }
+
+    @Test
+    void testRotationResultFromScript() {
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED, RefreshTokenStore.RotationResult.from(1L));
+        assertEquals(RefreshTokenStore.RotationResult.MISSING, RefreshTokenStore.RotationResult.from(0L));
+        assertEquals(RefreshTokenStore.RotationResult.MISMATCH, RefreshTokenStore.RotationResult.from(-1L));
+    }
+
+    private static byte[] entry(long expiresAt, byte[] stored) {
+        byte[] prefix = bytes(expiresAt + ":");
+        byte[] entry = new byte[prefix.length + stored.length];
+        System.arraycopy(prefix, 0, entry, 0, prefix.length);
+        System.arraycopy(stored, 0, entry, prefix.length, stored.length);
+        return entry;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String ascii(byte[] value) {
+        return new String(value, StandardCharsets.US_ASCII);
+    }
+}
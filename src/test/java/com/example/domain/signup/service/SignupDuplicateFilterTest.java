@@ -0,0 +1,74 @@
+package com.example.domain.signup.service;
+
+import com.example.common.ErrorStatus;
+import com.example.common.exception.ApiException;
+import com.example.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SignupDuplicateFilterTest {
+
+    private UserRepository repository;
+
+    private SignupDuplicateFilter signupDuplicateFilter;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UserRepository.class);
+        signupDuplicateFilter = new SignupDuplicateFilter(repository, mock(PlatformTransactionManager.class),
+                true, 0.01, 1000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testRebuildLoadsExistingUsers() {
+        // Given
+        when(repository.count()).thenReturn(1L);
+        when(repository.streamIdentities()).thenReturn(Stream.of(identity("user1", "nick1")));
+
+        // When
+        boolean rebuilt = signupDuplicateFilter.rebuild();
+
+        // Then
+        assertTrue(rebuilt);
+        assertTrue(signupDuplicateFilter.getStats().isBuilt());
+        assertTrue(signupDuplicateFilter.mightContainUsername("user1"));
+        assertFalse(signupDuplicateFilter.mightContainNickname("unused-nickname"));
+    }
+
+    @Test
+    void testFailedRebuildIsReported() {
+        // Given
+        when(repository.count()).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        ApiException exception = assertThrows(ApiException.class, () -> signupDuplicateFilter.rebuild());
+
+        // Then - 필터 없이 DB 조회로 계속 동작하고, 다시 시도할 수 있다.
+        assertEquals(ErrorStatus.SIGNUP_FILTER_REBUILD_FAILED, exception.getErrorCode());
+        assertFalse(signupDuplicateFilter.getStats().isBuilt());
+        assertFalse(signupDuplicateFilter.getStats().isRebuilding());
+        assertTrue(signupDuplicateFilter.mightContainUsername("anyone"));
+    }
+
+    private static UserRepository.UserIdentity identity(String username, String nickname) {
+        return new UserRepository.UserIdentity() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+        };
+    }
+}
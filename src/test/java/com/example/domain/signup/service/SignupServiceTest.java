@@ -2,16 +2,20 @@ package com.example.domain.signup.service;
 
 import com.example.common.ErrorStatus;
 import com.example.common.exception.ApiException;
+import com.example.common.monitoring.AuthMetrics;
 import com.example.domain.entity.User;
 import com.example.domain.enums.UserRole;
 import com.example.domain.repository.UserRepository;
 import com.example.domain.signup.dto.request.SignupRequest;
 import com.example.domain.signup.dto.response.SignupResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -30,6 +34,12 @@ class SignupServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private SignupDuplicateFilter signupDuplicateFilter;
+
+    @Spy
+    private AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+
     @Test
     void signup_SuccessForUser() {
         // Given
@@ -41,6 +51,7 @@ class SignupServiceTest {
                 null // 일반 사용자
         );
 
+        when(signupDuplicateFilter.mightContainNickname("testNickname")).thenReturn(true);
         when(repository.existsByNickname("testNickname")).thenReturn(false);
         when(passwordEncoder.encode("ValidPassword123!")).thenReturn("encodedPassword123");
 
@@ -51,7 +62,7 @@ class SignupServiceTest {
                 UserRole.ROLE_USER
         );
 
-        when(repository.save(any(User.class))).thenReturn(savedUser);
+        when(repository.saveAndFlush(any(User.class))).thenReturn(savedUser);
 
         // When
         SignupResponse response = signupService.signup(request);
@@ -64,7 +75,7 @@ class SignupServiceTest {
 
         verify(repository, times(1)).existsByNickname("testNickname");
         verify(passwordEncoder, times(1)).encode("ValidPassword123!");
-        verify(repository, times(1)).save(any(User.class));
+        verify(repository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -78,6 +89,7 @@ class SignupServiceTest {
                 "validAdminToken" // 관리자 토큰
         );
 
+        when(signupDuplicateFilter.mightContainNickname("adminNickname")).thenReturn(true);
         when(repository.existsByNickname("adminNickname")).thenReturn(false);
         when(passwordEncoder.encode("AdminPassword123!")).thenReturn("encodedAdminPassword");
 
@@ -88,7 +100,7 @@ class SignupServiceTest {
                 UserRole.ROLE_ADMIN
         );
 
-        when(repository.save(any(User.class))).thenReturn(savedAdmin);
+        when(repository.saveAndFlush(any(User.class))).thenReturn(savedAdmin);
 
         // Mock adminToken 설정
         ReflectionTestUtils.setField(signupService, "adminToken", "validAdminToken");
@@ -104,7 +116,7 @@ class SignupServiceTest {
 
         verify(repository, times(1)).existsByNickname("adminNickname");
         verify(passwordEncoder, times(1)).encode("AdminPassword123!");
-        verify(repository, times(1)).save(any(User.class));
+        verify(repository, times(1)).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -124,7 +136,7 @@ class SignupServiceTest {
 
         verify(repository, never()).existsByNickname(anyString());
         verify(passwordEncoder, never()).encode(anyString());
-        verify(repository, never()).save(any(User.class));
+        verify(repository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -138,6 +150,7 @@ class SignupServiceTest {
                 null
         );
 
+        when(signupDuplicateFilter.mightContainNickname("duplicateNickname")).thenReturn(true);
         when(repository.existsByNickname("duplicateNickname")).thenReturn(true);
 
         // When & Then
@@ -146,7 +159,7 @@ class SignupServiceTest {
 
         verify(repository, times(1)).existsByNickname("duplicateNickname");
         verify(passwordEncoder, never()).encode(anyString());
-        verify(repository, never()).save(any(User.class));
+        verify(repository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -169,6 +182,66 @@ class SignupServiceTest {
 
         verify(repository, never()).existsByNickname(anyString());
         verify(passwordEncoder, never()).encode(anyString());
-        verify(repository, never()).save(any(User.class));
+        verify(repository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void signup_SkipsExistsQueryWhenFilterSaysAbsent() {
+        // Given - 필터가 닉네임/아이디 모두 확실히 없다고 답함 (mock 기본값 false)
+        SignupRequest request = new SignupRequest(
+                "newUser",
+                "ValidPassword123!",
+                "newNickname",
+                UserRole.ROLE_USER,
+                null
+        );
+        when(passwordEncoder.encode("ValidPassword123!")).thenReturn("encodedPassword123");
+        when(repository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        signupService.signup(request);
+
+        // Then
+        verify(repository, never()).existsByNickname(anyString());
+        verify(repository, never()).existsByUsername(anyString());
+        verify(signupDuplicateFilter, times(1)).put("newUser", "newNickname");
+    }
+
+    @Test
+    void signup_MapsUniqueViolationToDuplicateNickname() {
+        // Given - 사전 검사 이후 다른 요청이 같은 닉네임으로 먼저 가입
+        SignupRequest request = new SignupRequest(
+                "testUser",
+                "ValidPassword123!",
+                "raceNickname",
+                UserRole.ROLE_USER,
+                null
+        );
+        when(passwordEncoder.encode("ValidPassword123!")).thenReturn("encodedPassword123");
+        when(repository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class, () -> signupService.signup(request));
+        assertEquals(ErrorStatus.DUPLICATE_NICKNAME, exception.getErrorCode());
+        verify(signupDuplicateFilter, never()).put(anyString(), anyString());
+    }
+
+    @Test
+    void signup_MapsUsernameIndexViolationToDuplicateUsername() {
+        // Given - 위반한 인덱스 이름으로 어느 값이 중복인지 구분
+        SignupRequest request = new SignupRequest(
+                "raceUser",
+                "ValidPassword123!",
+                "testNickname",
+                UserRole.ROLE_USER,
+                null
+        );
+        when(passwordEncoder.encode("ValidPassword123!")).thenReturn("encodedPassword123");
+        when(repository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "Duplicate entry 'raceUser' for key 'users." + SignupService.USERNAME_UNIQUE_INDEX + "'"));
+
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class, () -> signupService.signup(request));
+        assertEquals(ErrorStatus.DUPLICATE_USERNAME, exception.getErrorCode());
     }
 }
@@ -0,0 +1,136 @@
+package com.example.domain.signup.service;
+
+import com.example.domain.entity.User;
+import com.example.domain.repository.UserRepository;
+import com.example.domain.signup.dto.response.UserImportResponse;
+import com.example.security.BoundedPasswordEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserImportServiceTest {
+
+    private static final String BCRYPT_HASH = "$2a$10$" + "a".repeat(53);
+
+    private UserRepository repository;
+
+    private SignupDuplicateFilter signupDuplicateFilter;
+
+    private PasswordEncoder hashingEncoder;
+
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UserRepository.class);
+        signupDuplicateFilter = mock(SignupDuplicateFilter.class);
+        hashingEncoder = mock(PasswordEncoder.class);
+        when(hashingEncoder.encode(anyString())).thenAnswer(invocation -> "hashed:" + invocation.getArgument(0));
+
+        BoundedPasswordEncoder passwordEncoder = mock(BoundedPasswordEncoder.class);
+        when(passwordEncoder.getDelegate()).thenReturn(hashingEncoder);
+
+        userImportService = new UserImportService(repository, passwordEncoder, signupDuplicateFilter,
+                mock(PlatformTransactionManager.class), new ObjectMapper(), 2, 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.destroy();
+    }
+
+    @Test
+    void testImportCsvInChunksWithRowErrors() throws Exception {
+        // Given - chunk 크기 2. 헤더, 정상 3줄, 파일 내 중복 닉네임 1줄, 약한 비밀번호 1줄
+        String csv = """
+                username,password,nickname,userRole
+                user1,ValidPassword1!,nick1,
+                user2,"Valid,Password2!",nick2,ROLE_ADMIN
+                user4,%s,nick4,
+                user5,ValidPassword5!,nick4,
+                user3,weak,nick3,
+                """.formatted(BCRYPT_HASH);
+
+        // When
+        UserImportResponse response = userImportService.importUsers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), UserImportService.Format.CSV);
+
+        // Then
+        assertEquals(5, response.getTotal());
+        assertEquals(3, response.getImported());
+        assertEquals(2, response.getFailed());
+        assertEquals(List.of(5L, 6L), response.getErrors().stream().map(UserImportResponse.RowError::getLine).toList());
+
+        // 이미 BCrypt 해시인 비밀번호는 다시 해싱하지 않는다.
+        verify(hashingEncoder, times(2)).encode(anyString());
+        verify(hashingEncoder).encode("Valid,Password2!");
+        verify(signupDuplicateFilter, times(3)).put(anyString(), anyString());
+    }
+
+    @Test
+    void testSkipsRowsAlreadyInDatabase() throws Exception {
+        // Given
+        String ndjson = """
+                {"username":"existing","password":"ValidPassword1!","nickname":"nick1"}
+                {"username":"fresh","password":"ValidPassword1!","nickname":"nick2"}
+                not json
+                """;
+        when(signupDuplicateFilter.mightContainUsername("existing")).thenReturn(true);
+        when(repository.findExistingUsernames(List.of("existing"))).thenReturn(List.of("existing"));
+
+        // When
+        UserImportResponse response = userImportService.importUsers(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), UserImportService.Format.NDJSON);
+
+        // Then
+        assertEquals(1, response.getImported());
+        assertEquals(2, response.getFailed());
+        verify(repository, never()).findExistingNicknames(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(saved.capture());
+        assertEquals("fresh", saved.getValue().get(0).getUsername());
+    }
+
+    @Test
+    void testOtherInsertFailureDoesNotAbortImport() throws Exception {
+        // Given - chunk 크기 2. 첫 chunk 의 배치 insert 가 DB 오류로 실패하고, 한 건씩 다시 저장할 때 user2 만 또 실패한다.
+        String csv = """
+                user1,ValidPassword1!,nick1
+                user2,ValidPassword2!,nick2
+                user3,ValidPassword3!,nick3
+                """;
+        when(repository.saveAll(anyList())).thenThrow(new QueryTimeoutException("timeout")).thenReturn(List.of());
+        when(repository.saveAndFlush(argThat(user -> user != null && "user2".equals(user.getUsername()))))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        UserImportResponse response = userImportService.importUsers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), UserImportService.Format.CSV);
+
+        // Then - 실패한 줄만 남기고 다음 chunk 까지 처리한다.
+        assertEquals(2, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(List.of(2L), response.getErrors().stream().map(UserImportResponse.RowError::getLine).toList());
+        verify(repository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void testParseCsvLineWithQuotes() {
+        assertEquals(List.of("a", "b,\"c\"", ""), UserImportService.parseCsvLine("a,\"b,\"\"c\"\"\","));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.domain.user.service;
+
+import com.example.config.CacheConfig;
+import com.example.domain.entity.User;
+import com.example.domain.enums.UserRole;
+import com.example.domain.repository.UserRepository;
+import com.example.domain.user.dto.UserSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserLookupServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserLookupService userLookupService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userLookupService = new UserLookupService(userRepository,
+                new ConcurrentMapCacheManager(CacheConfig.USERS, CacheConfig.USER_IDS));
+
+        user = User.createUser("username", "nickname", "encodedPassword", UserRole.ROLE_USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+    }
+
+    @Test
+    void testFindByUsernameHitsDatabaseOnce() {
+        // Given
+        when(userRepository.findByUsername("username")).thenReturn(Optional.of(user));
+
+        // When
+        userLookupService.findByUsername("username");
+        Optional<UserSnapshot> second = userLookupService.findByUsername("username");
+
+        // Then - 두 번째 조회와 id 조회는 캐시에서 처리
+        assertEquals("encodedPassword", second.orElseThrow().password());
+        assertEquals("nickname", userLookupService.findById(1L).orElseThrow().nickname());
+        verify(userRepository, times(1)).findByUsername("username");
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testMissingUserIsNotCached() {
+        // Given - 가입 전에 로그인 시도
+        when(userRepository.findByUsername("username"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(user));
+
+        // When & Then - 가입 직후에는 바로 조회된다.
+        assertTrue(userLookupService.findByUsername("username").isEmpty());
+        assertTrue(userLookupService.findByUsername("username").isPresent());
+    }
+
+    @Test
+    void testEvictReloadsFromDatabase() {
+        // Given
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        userLookupService.findById(1L);
+
+        // When
+        userLookupService.evict(1L);
+        userLookupService.findById(1L);
+
+        // Then
+        verify(userRepository, times(2)).findById(1L);
+    }
+}
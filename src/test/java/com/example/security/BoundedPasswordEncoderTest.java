@@ -0,0 +1,141 @@
+package com.example.security;
+
+import com.example.common.ErrorStatus;
+import com.example.common.exception.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void testDelegatesToWrappedEncoder() {
+        // Given
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(null), 1, 1, 1000, new SimpleMeterRegistry());
+
+        // When & Then
+        assertEquals("hashed:password", encoder.encode("password"));
+        assertTrue(encoder.matches("password", "hashed:password"));
+        assertFalse(encoder.matches("other", "hashed:password"));
+    }
+
+    @Test
+    void testFailsFastWhenQueueIsFull() throws Exception {
+        // Given - 스레드 1개, 대기열 1개
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(release), 1, 1, 5000, new SimpleMeterRegistry());
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        waitUntilQueued(1);
+
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class, () -> encoder.encode("third"));
+        assertEquals(ErrorStatus.PASSWORD_HASHING_BUSY, exception.getErrorCode());
+
+        release.countDown();
+        assertEquals("hashed:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed:second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testFailsWhenWaitExceedsTimeout() {
+        // Given
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(release), 1, 10, 100, new SimpleMeterRegistry());
+
+        // When & Then
+        ApiException exception = assertThrows(ApiException.class, () -> encoder.encode("slow"));
+        assertEquals(ErrorStatus.PASSWORD_HASHING_BUSY, exception.getErrorCode());
+    }
+
+    @Test
+    void testAsyncMatchFailsWhenWaitExceedsTimeout() {
+        // Given
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(release), 1, 10, 100, new SimpleMeterRegistry());
+        CompletableFuture<Boolean> matched = encoder.matchesAsync("slow", "hashed:slow");
+
+        // When
+        CompletionException exception = assertThrows(CompletionException.class, matched::join);
+
+        // Then
+        ApiException cause = assertInstanceOf(ApiException.class, exception.getCause());
+        assertEquals(ErrorStatus.PASSWORD_HASHING_BUSY, cause.getErrorCode());
+    }
+
+    @Test
+    void testAsyncMatchCompletesWithinTimeout() {
+        // Given
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(null), 1, 10, 1000, new SimpleMeterRegistry());
+
+        // When & Then
+        assertTrue(encoder.matchesAsync("password", "hashed:password").join());
+        assertFalse(encoder.matchesAsync("other", "hashed:password").join());
+    }
+
+    private void waitUntilQueued(int expected) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (queueDepth() >= expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("task was not queued");
+    }
+
+    private int queueDepth() {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(encoder, "executor");
+        return executor.getQueue().size();
+    }
+
+    // 해싱 대신 접두사를 붙이는 테스트용 인코더. latch 가 있으면 풀릴 때까지 블로킹한다.
+    private static final class PrefixEncoder implements PasswordEncoder {
+        private final CountDownLatch latch;
+
+        private PrefixEncoder(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return ("hashed:" + rawPassword).equals(encodedPassword);
+        }
+
+        private void await() {
+            if (latch == null) {
+                return;
+            }
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    void testUpgradeEncodingOnlyTowardHigherCost() {
+        // Given
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+        String lowerCost = new BCryptPasswordEncoder(4).encode("password");
+        String higherCost = new BCryptPasswordEncoder(6).encode("password");
+        String sameCost = encoder.encode("password");
+
+        // When & Then - 더 높은 cost 의 해시를 낮추지 않는다.
+        assertTrue(encoder.upgradeEncoding(lowerCost));
+        assertFalse(encoder.upgradeEncoding(higherCost));
+        assertFalse(encoder.upgradeEncoding(sameCost));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void testNodesWithDifferentCostNeverDowngrade() {
+        // Given - 측정된 cost 만 다른 두 노드
+        CalibratedBCryptPasswordEncoder slowNode = new CalibratedBCryptPasswordEncoder(5);
+        CalibratedBCryptPasswordEncoder fastNode = new CalibratedBCryptPasswordEncoder(6);
+
+        // When & Then - 느린 노드는 높은 해시를 그대로 두고, 빠른 노드는 낮은 해시를 한 번 올린다.
+        assertFalse(slowNode.upgradeEncoding(fastNode.encode("password")));
+        assertTrue(fastNode.upgradeEncoding(slowNode.encode("password")));
+        assertFalse(fastNode.upgradeEncoding(fastNode.encode("password")));
+    }
+
+    @Test
+    void testDefaultCostHashIsUpgradedUnderDefaultMinCost() {
+        // Given - 기본 설정(min-cost 10)에서 목표 시간이 넉넉해 11 이 선택된 노드
+        CalibratedBCryptPasswordEncoder encoder = CalibratedBCryptPasswordEncoder.calibrate(60_000, 10, 11);
+        String existingHash = new BCryptPasswordEncoder().encode("password");
+
+        // When & Then - BCrypt 기본 cost(10)로 저장된 기존 해시는 로그인 시 재해싱 대상이다.
+        assertEquals(11, encoder.getCost());
+        assertEquals(10, CalibratedBCryptPasswordEncoder.costOf(existingHash));
+        assertTrue(encoder.upgradeEncoding(existingHash));
+    }
+
+    @Test
+    void testCalibrateStaysWithinRange() {
+        // When
+        CalibratedBCryptPasswordEncoder encoder = CalibratedBCryptPasswordEncoder.calibrate(0, 4, 6);
+
+        // Then - 목표가 매우 짧으면 최소 cost 를 사용
+        assertEquals(4, encoder.getCost());
+        assertEquals(4, CalibratedBCryptPasswordEncoder.costOf(encoder.encode("password")));
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.security;
+
+import com.example.domain.enums.TokenType;
+import com.example.domain.enums.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Hs256TokenVerifierTest {
+
+    private static final String TEST_SECRET_KEY = "dXNlcktleUluQmFzZTY0Rm9ybWF0MTIzNDU2Nzg5MDEyMzQ1Njc4OTA=";
+
+    private JwtUtil jwtUtil;
+
+    private Hs256TokenVerifier verifier;
+
+    private SecretKey key;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(new JwtKeyRing(new JwtSigningProperties("HS256", null, List.of(), Duration.ofMinutes(5), true)));
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", TEST_SECRET_KEY);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(TEST_SECRET_KEY));
+        verifier = Hs256TokenVerifier.forKey(key);
+    }
+
+    @Test
+    void testSameResultAsJjwtForAccessToken() {
+        // Given - 이스케이프가 필요한 닉네임 포함
+        String token = jwtUtil.createAccessToken(42L, "닉네임 \"quoted\" \\ /", "testUsername", UserRole.ROLE_ADMIN, "device-1")
+                .substring(JwtUtil.BEARER_PREFIX.length());
+
+        // When
+        ParsedToken fast = verifier.verify(token);
+        ParsedToken jjwt = jwtUtil.parse(token);
+
+        // Then
+        assertNotNull(fast);
+        assertEquals(jjwt.getSubject(), fast.getSubject());
+        assertNotNull(fast.getTokenId());
+        assertEquals(jjwt.getTokenId(), fast.getTokenId());
+        assertEquals(jjwt.getCategory(), fast.getCategory());
+        assertEquals(jjwt.getIssuedAt(), fast.getIssuedAt());
+        assertEquals(jjwt.getExpiration(), fast.getExpiration());
+        assertEquals(jjwt.getNickname(), fast.getNickname());
+        assertEquals(jjwt.getUserName(), fast.getUserName());
+        assertEquals(jjwt.getUserRole(), fast.getUserRole());
+    }
+
+    @Test
+    void testSameResultAsJjwtForCompactAccessToken() {
+        // Given
+        ReflectionTestUtils.setField(jwtUtil, "compactAccessToken", true);
+        String token = jwtUtil.createAccessToken(42L, "닉네임", "testUsername", UserRole.ROLE_ADMIN, "device-1")
+                .substring(JwtUtil.BEARER_PREFIX.length());
+
+        // When
+        ParsedToken fast = verifier.verify(token);
+        ParsedToken jjwt = jwtUtil.parse(token);
+
+        // Then - 순번은 원래 이름으로 풀려 verbose 토큰과 같은 값을 돌려준다.
+        assertNotNull(fast);
+        assertTrue(fast.isCategory(TokenType.ACCESS));
+        assertEquals(jjwt.getCategory(), fast.getCategory());
+        assertEquals(UserRole.ROLE_ADMIN.name(), fast.getUserRole());
+        assertEquals(jjwt.getUserRole(), fast.getUserRole());
+        assertEquals(jjwt.getNickname(), fast.getNickname());
+        assertEquals(jjwt.getUserName(), fast.getUserName());
+        assertEquals(jjwt.getTokenId(), fast.getTokenId());
+        assertEquals(jjwt.getExpiration(), fast.getExpiration());
+    }
+
+    @Test
+    void testUnknownOrdinalInCompactTokenFallsBack() {
+        // Given
+        String token = Jwts.builder()
+                .setSubject("1")
+                .claim(ParsedToken.COMPACT_CATEGORY_CLAIM, 99)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key)
+                .compact();
+
+        // When & Then - jjwt 경로에서 MalformedJwtException 을 받도록 판단을 넘긴다.
+        assertNull(verifier.verify(token));
+        assertThrows(MalformedJwtException.class, () -> jwtUtil.parse(token));
+    }
+
+    @Test
+    void testSameResultAsJjwtForRefreshToken() {
+        // Given
+        String token = jwtUtil.createRefreshToken(7L, "device-1");
+
+        // When
+        ParsedToken fast = verifier.verify(token);
+
+        // Then
+        assertNotNull(fast);
+        assertEquals(7L, fast.getUserId());
+        assertTrue(fast.isCategory(TokenType.REFRESH));
+        assertEquals(jwtUtil.parse(token).getExpiration(), fast.getExpiration());
+    }
+
+    @Test
+    void testTamperedSignatureFallsBack() {
+        // Given
+        String token = jwtUtil.createRefreshToken(1L, "device-1");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When & Then
+        assertNull(verifier.verify(tampered));
+    }
+
+    @Test
+    void testExpiredTokenFallsBack() {
+        // Given
+        String expired = Jwts.builder()
+                .setSubject("1")
+                .claim("category", TokenType.ACCESS.name())
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(key)
+                .compact();
+
+        // When & Then - jjwt 경로에서 ExpiredJwtException 을 받도록 판단을 넘긴다.
+        assertNull(verifier.verify(expired));
+    }
+
+    @Test
+    void testUnexpectedClaimShapeFallsBack() {
+        // Given
+        String token = Jwts.builder()
+                .setSubject("1")
+                .claim("roles", new String[]{"ROLE_USER"})
+                .signWith(key)
+                .compact();
+
+        // When & Then
+        assertNull(verifier.verify(token));
+        assertNull(verifier.verify("invalid.token.here"));
+    }
+
+    @Test
+    void testParseAccessTokenUsesFastPathWhenEnabled() {
+        // Given
+        ReflectionTestUtils.setField(jwtUtil, "fastPathEnabled", true);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        String token = jwtUtil.createAccessToken(1L, "nickname", "username", UserRole.ROLE_USER, "device-1")
+                .substring(JwtUtil.BEARER_PREFIX.length());
+
+        // When
+        ParsedToken parsedToken = jwtUtil.parseAccessToken(token);
+
+        // Then
+        assertEquals(1L, parsedToken.getUserId());
+        assertEquals("nickname", parsedToken.getNickname());
+    }
+}
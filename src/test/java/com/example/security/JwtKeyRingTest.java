@@ -0,0 +1,186 @@
+package com.example.security;
+
+import com.example.domain.enums.UserRole;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyRingTest {
+
+    private static final String TEST_SECRET_KEY = "dXNlcktleUluQmFzZTY0Rm9ybWF0MTIzNDU2Nzg5MDEyMzQ1Njc4OTA=";
+
+    private static final KeyPair OLD_KEY = generate("EC", 256);
+    private static final KeyPair NEW_KEY = generate("EC", 256);
+
+    @Test
+    void testSignsAccessTokenWithActiveKidAndVerifiesIt() {
+        // Given
+        JwtKeyRing keyRing = new JwtKeyRing(properties("ES256", "new",
+                key("old", null, OLD_KEY), key("new", NEW_KEY, NEW_KEY)));
+        JwtUtil jwtUtil = jwtUtil(keyRing);
+
+        // When
+        String token = jwtUtil.createAccessToken(1L, "nickname", "username", UserRole.ROLE_USER, "device-1")
+                .substring(JwtUtil.BEARER_PREFIX.length());
+
+        // Then
+        assertEquals("new", Jwts.parserBuilder().setSigningKey(NEW_KEY.getPublic()).build()
+                .parseClaimsJws(token).getHeader().getKeyId());
+        assertEquals(1L, jwtUtil.parseAccessToken(token).getUserId());
+    }
+
+    @Test
+    void testVerifiesTokenOfRetiredKeyDuringRotation() {
+        // Given - 이전 키로 서명된 토큰, 이전 키는 공개 키만 남아 있다.
+        JwtKeyRing keyRing = new JwtKeyRing(properties("ES256", "new",
+                key("old", null, OLD_KEY), key("new", NEW_KEY, NEW_KEY)));
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "old")
+                .setSubject("7")
+                .claim("category", "ACCESS")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(OLD_KEY.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+
+        // When & Then
+        assertEquals(7L, jwtUtil(keyRing).parseAccessToken(token).getUserId());
+    }
+
+    @Test
+    void testRejectsUnknownKid() {
+        // Given
+        JwtKeyRing keyRing = new JwtKeyRing(properties("ES256", "new", key("new", NEW_KEY, NEW_KEY)));
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "old")
+                .setSubject("7")
+                .signWith(OLD_KEY.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+
+        // When & Then
+        assertThrows(SignatureException.class, () -> jwtUtil(keyRing).parseAccessToken(token));
+    }
+
+    @Test
+    void testRefreshTokenStaysHmac() {
+        // Given
+        JwtKeyRing keyRing = new JwtKeyRing(properties("ES256", "new", key("new", NEW_KEY, NEW_KEY)));
+        JwtUtil jwtUtil = jwtUtil(keyRing);
+
+        // When
+        String refreshToken = jwtUtil.createRefreshToken(3L, "device-1");
+
+        // Then
+        assertEquals(3L, jwtUtil.parseRefreshToken(refreshToken).getUserId());
+    }
+
+    @Test
+    void testAcceptsLegacyHmacAccessTokenDuringMigration() {
+        // Given - 비대칭 키로 바꾸기 전에 발급된 kid 없는 HMAC 액세스 토큰
+        JwtKeyRing keyRing = new JwtKeyRing(properties("ES256", "new", key("new", NEW_KEY, NEW_KEY)));
+
+        // When & Then
+        assertEquals(5L, jwtUtil(keyRing).parseAccessToken(legacyAccessToken()).getUserId());
+    }
+
+    @Test
+    void testRejectsLegacyHmacAccessTokenAfterMigration() {
+        // Given - jwt.signing.accept-legacy-hmac=false
+        JwtKeyRing keyRing = new JwtKeyRing(new JwtSigningProperties("ES256", "new",
+                List.of(key("new", NEW_KEY, NEW_KEY)), Duration.ofMinutes(5), false));
+        JwtUtil jwtUtil = jwtUtil(keyRing);
+        String refreshToken = jwtUtil.createRefreshToken(3L, "device-1");
+
+        // When & Then - HMAC 은 리프레시 토큰에만 쓰인다.
+        assertThrows(UnsupportedJwtException.class, () -> jwtUtil.parseAccessToken(legacyAccessToken()));
+        assertThrows(UnsupportedJwtException.class, () -> jwtUtil.parseAccessToken(refreshToken));
+        assertEquals(3L, jwtUtil.parseRefreshToken(refreshToken).getUserId());
+    }
+
+    @Test
+    void testJwksPublishesAllPublicKeys() throws Exception {
+        // Given
+        KeyPair rsa = generate("RSA", 2048);
+        JwtKeyRing keyRing = new JwtKeyRing(properties("RS256", "rsa", key("rsa", rsa, rsa)));
+
+        // When
+        JsonNode keys = new ObjectMapper().readTree(keyRing.getJwks()).get("keys");
+
+        // Then
+        assertEquals(1, keys.size());
+        assertEquals("RSA", keys.get(0).get("kty").asText());
+        assertEquals("RS256", keys.get(0).get("alg").asText());
+        assertEquals("rsa", keys.get(0).get("kid").asText());
+        assertFalse(keys.get(0).has("d"));
+        assertTrue(keyRing.getJwksETag().startsWith("\""));
+    }
+
+    @Test
+    void testHs256HasEmptyJwks() throws Exception {
+        // Given
+        JwtKeyRing keyRing = new JwtKeyRing(properties("HS256", null));
+
+        // When & Then
+        assertFalse(keyRing.isAsymmetric());
+        assertEquals(0, new ObjectMapper().readTree(keyRing.getJwks()).get("keys").size());
+    }
+
+    private static String legacyAccessToken() {
+        return Jwts.builder()
+                .setSubject("5")
+                .claim("category", "ACCESS")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(TEST_SECRET_KEY)))
+                .compact();
+    }
+
+    private static JwtUtil jwtUtil(JwtKeyRing keyRing) {
+        JwtUtil jwtUtil = new JwtUtil(keyRing);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", TEST_SECRET_KEY);
+        // fast-path 가 켜져 있어도 교체 기간이 끝나면 HMAC 액세스 토큰을 받지 않아야 한다.
+        ReflectionTestUtils.setField(jwtUtil, "fastPathEnabled", true);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    private static JwtSigningProperties properties(String algorithm, String activeKid, JwtSigningProperties.Key... keys) {
+        return new JwtSigningProperties(algorithm, activeKid, List.of(keys), Duration.ofMinutes(5), true);
+    }
+
+    private static JwtSigningProperties.Key key(String kid, KeyPair privateKey, KeyPair publicKey) {
+        return new JwtSigningProperties.Key(kid,
+                privateKey == null ? null : pem("PRIVATE KEY", privateKey.getPrivate().getEncoded()),
+                pem("PUBLIC KEY", publicKey.getPublic().getEncoded()));
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    private static KeyPair generate(String algorithm, int size) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+            generator.initialize(size);
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.security;
 import com.example.domain.enums.TokenType;
 import com.example.domain.enums.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.io.Decoders;
@@ -12,7 +13,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -24,7 +27,7 @@ class JwtUtilTest {
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil();
+        jwtUtil = new JwtUtil(new JwtKeyRing(new JwtSigningProperties("HS256", null, List.of(), Duration.ofMinutes(5), true)));
         // secretKey 및 초기화 설정
         ReflectionTestUtils.setField(jwtUtil, "secretKey", TEST_SECRET_KEY);
         ReflectionTestUtils.invokeMethod(jwtUtil, "init"); // @PostConstruct 호출
@@ -39,7 +42,7 @@ class JwtUtilTest {
         UserRole role = UserRole.ROLE_USER;
 
         // When
-        String accessToken = jwtUtil.createAccessToken(userId, nickname, username, role);
+        String accessToken = jwtUtil.createAccessToken(userId, nickname, username, role, "device-1");
 
         // Then
         assertNotNull(accessToken);
@@ -60,7 +63,7 @@ class JwtUtilTest {
         Long userId = 1L;
 
         // When
-        String refreshToken = jwtUtil.createRefreshToken(userId);
+        String refreshToken = jwtUtil.createRefreshToken(userId, "device-1");
 
         // Then
         assertNotNull(refreshToken);
@@ -74,45 +77,110 @@ class JwtUtilTest {
     @Test
     void testIsExpired() {
         // Given
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(TEST_SECRET_KEY));
-        String expiredToken = Jwts.builder()
-                .setExpiration(new Date(System.currentTimeMillis() - 1000)) // 1초 전으로 만료된 토큰 생성
-                .setSubject("1") // 사용자 ID
-                .claim("category", TokenType.ACCESS.name())
-                .signWith(key)
-                .compact();
-
-        // When & Then
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> jwtUtil.isExpired(expiredToken));
-        assertTrue(exception.getMessage().contains("Invalid token"), "Exception should indicate invalid token");
-    }
+        String refreshToken = jwtUtil.createRefreshToken(1L, "device-1");
 
+        // When
+        ParsedToken parsedToken = jwtUtil.parse(refreshToken);
 
+        // Then - 만료된 토큰은 parse 에서 ExpiredJwtException 으로 거절된다. (testParseExpiredToken)
+        assertFalse(parsedToken.isExpired());
+    }
 
     @Test
     void testGetCategory() {
         // Given
         Long userId = 1L;
-        String refreshToken = jwtUtil.createRefreshToken(userId);
+        String refreshToken = jwtUtil.createRefreshToken(userId, "device-1");
 
         // When
-        String category = jwtUtil.getCategory(refreshToken);
+        ParsedToken parsedToken = jwtUtil.parse(refreshToken);
 
         // Then
-        assertEquals(TokenType.REFRESH.name(), category);
+        assertEquals(TokenType.REFRESH.name(), parsedToken.getCategory());
+        assertTrue(parsedToken.isCategory(TokenType.REFRESH));
     }
 
     @Test
     void testGetUserId() {
         // Given
         Long userId = 1L;
-        String refreshToken = jwtUtil.createRefreshToken(userId);
+        String refreshToken = jwtUtil.createRefreshToken(userId, "device-1");
+
+        // When
+        ParsedToken parsedToken = jwtUtil.parse(refreshToken);
+
+        // Then
+        assertEquals(userId.toString(), parsedToken.getSubject());
+        assertEquals(userId, parsedToken.getUserId());
+    }
+
+    @Test
+    void testParseAccessToken() {
+        // Given
+        String accessToken = jwtUtil.createAccessToken(1L, "testUser", "testUsername", UserRole.ROLE_ADMIN, "device-1");
+
+        // When
+        ParsedToken parsedToken = jwtUtil.parse(accessToken.substring(JwtUtil.BEARER_PREFIX.length()));
+
+        // Then
+        assertEquals(1L, parsedToken.getUserId());
+        assertTrue(parsedToken.isCategory(TokenType.ACCESS));
+        assertEquals("testUser", parsedToken.getNickname());
+        assertEquals("testUsername", parsedToken.getUserName());
+        assertEquals(UserRole.ROLE_ADMIN.getUserRole(), parsedToken.getUserRole());
+        assertNotNull(parsedToken.getIssuedAt());
+        assertFalse(parsedToken.isExpired());
+    }
+
+    @Test
+    void testCompactAccessTokenIsShorterAndParsesToSameValues() {
+        // Given
+        String verbose = jwtUtil.createAccessToken(1L, "testUser", "testUsername", UserRole.ROLE_ADMIN, "device-1");
+        ReflectionTestUtils.setField(jwtUtil, "compactAccessToken", true);
 
         // When
-        String extractedUserId = jwtUtil.getUserId(refreshToken);
+        String compact = jwtUtil.createAccessToken(1L, "testUser", "testUsername", UserRole.ROLE_ADMIN, "device-1");
+        ParsedToken parsedToken = jwtUtil.parse(compact.substring(JwtUtil.BEARER_PREFIX.length()));
 
         // Then
-        assertEquals(userId.toString(), extractedUserId);
+        assertTrue(compact.length() < verbose.length());
+        assertFalse(jwtUtil.extractClaims(compact.substring(JwtUtil.BEARER_PREFIX.length())).containsKey("category"));
+        assertEquals(1L, parsedToken.getUserId());
+        assertTrue(parsedToken.isCategory(TokenType.ACCESS));
+        assertEquals("testUser", parsedToken.getNickname());
+        assertEquals("testUsername", parsedToken.getUserName());
+        assertEquals(UserRole.ROLE_ADMIN, parsedToken.toAuthUser().getUserRole());
+        assertEquals("device-1", parsedToken.getDeviceId());
+        assertNotNull(parsedToken.getTokenId());
+    }
+
+    @Test
+    void testParseRefreshToken() {
+        // Given
+        String refreshToken = jwtUtil.createRefreshToken(7L, "device-1");
+
+        // When
+        ParsedToken parsedToken = jwtUtil.parse(refreshToken);
+
+        // Then
+        assertEquals(7L, parsedToken.getUserId());
+        assertTrue(parsedToken.isCategory(TokenType.REFRESH));
+        assertNull(parsedToken.getNickname());
+    }
+
+    @Test
+    void testParseExpiredToken() {
+        // Given
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(TEST_SECRET_KEY));
+        String expiredToken = Jwts.builder()
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .setSubject("1")
+                .claim("category", TokenType.REFRESH.name())
+                .signWith(key)
+                .compact();
+
+        // When & Then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.parse(expiredToken));
     }
 
     @Test
@@ -127,22 +195,10 @@ class JwtUtilTest {
                 "Unexpected exception type for extractClaims"
         );
 
-        Exception isExpiredException = assertThrows(Exception.class, () -> jwtUtil.isExpired(invalidToken));
-        assertTrue(
-                isExpiredException instanceof MalformedJwtException || isExpiredException instanceof IllegalArgumentException,
-                "Unexpected exception type for isExpired"
-        );
-
-        Exception getCategoryException = assertThrows(Exception.class, () -> jwtUtil.getCategory(invalidToken));
-        assertTrue(
-                getCategoryException instanceof MalformedJwtException || getCategoryException instanceof IllegalArgumentException,
-                "Unexpected exception type for getCategory"
-        );
-
-        Exception getUserIdException = assertThrows(Exception.class, () -> jwtUtil.getUserId(invalidToken));
+        Exception parseException = assertThrows(Exception.class, () -> jwtUtil.parse(invalidToken));
         assertTrue(
-                getUserIdException instanceof MalformedJwtException || getUserIdException instanceof IllegalArgumentException,
-                "Unexpected exception type for getUserId"
+                parseException instanceof MalformedJwtException || parseException instanceof IllegalArgumentException,
+                "Unexpected exception type for parse"
         );
     }
 
@@ -0,0 +1,45 @@
+package com.example.security;
+
+import com.example.common.ErrorStatus;
+import com.example.common.exception.ApiException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParsedTokenTest {
+
+    @Test
+    void testDatesAreCopied() {
+        // Given
+        ParsedToken parsedToken = token("1", new Date(1000L), new Date(2000L));
+
+        // When - 돌려받은 Date 를 바꿔도
+        parsedToken.getIssuedAt().setTime(0L);
+        parsedToken.getExpiration().setTime(0L);
+
+        // Then
+        assertEquals(1000L, parsedToken.getIssuedAt().getTime());
+        assertEquals(2000L, parsedToken.getExpiration().getTime());
+        assertNotSame(parsedToken.getExpiration(), parsedToken.getExpiration());
+    }
+
+    @Test
+    void testNonNumericSubjectIsInvalidToken() {
+        // Given
+        ParsedToken parsedToken = token("not-a-number", new Date(), new Date());
+
+        // When
+        ApiException exception = assertThrows(ApiException.class, parsedToken::getUserId);
+
+        // Then
+        assertEquals(ErrorStatus.INVALID_TOKEN, exception.getErrorCode());
+        assertThrows(ApiException.class, parsedToken::toAuthUser);
+    }
+
+    private static ParsedToken token(String subject, Date issuedAt, Date expiration) {
+        return new ParsedToken(subject, "jti", "ACCESS", issuedAt, expiration,
+                "nick", "user", "ROLE_USER", "device-1");
+    }
+}
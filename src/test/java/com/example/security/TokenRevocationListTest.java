@@ -0,0 +1,123 @@
+package com.example.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationListTest {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    private StringRedisTemplate redisTemplate;
+
+    private ZSetOperations<String, String> zSetOperations;
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        revocationList = new TokenRevocationList(redisTemplate, Duration.ofMinutes(15), 1000, 0.001,
+                Duration.ofMinutes(5), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        revocationList.destroy();
+    }
+
+    @Test
+    void testRevokedTokenIsRejectedAndPropagated() {
+        // Given
+        Date expiresAt = new Date(System.currentTimeMillis() + HOUR);
+
+        // When
+        revocationList.revoke("revoked-id", expiresAt);
+
+        // Then
+        assertTrue(revocationList.isRevoked("revoked-id", expiresAt));
+        assertFalse(revocationList.isRevoked("other-id", expiresAt));
+        verify(zSetOperations).add(TokenRevocationList.REVOKED_KEY, "revoked-id", expiresAt.getTime());
+        verify(redisTemplate).convertAndSend(TokenRevocationList.TOPIC.getTopic(), expiresAt.getTime() + ":revoked-id");
+    }
+
+    @Test
+    void testTokenWithoutIdIsNeverRevoked() {
+        // When & Then
+        assertFalse(revocationList.isRevoked(null, new Date(System.currentTimeMillis() + HOUR)));
+    }
+
+    @Test
+    void testAppliesMessageFromOtherNode() {
+        // Given
+        long expiresAt = System.currentTimeMillis() + HOUR;
+        byte[] body = (expiresAt + ":remote-id").getBytes(StandardCharsets.UTF_8);
+
+        // When
+        revocationList.onMessage(new DefaultMessage(TokenRevocationList.TOPIC.getTopic().getBytes(), body), null);
+
+        // Then
+        assertTrue(revocationList.isRevoked("remote-id", new Date(expiresAt)));
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void testResyncLoadsUnexpiredEntriesAndTrimsRedis() {
+        // Given
+        long now = System.currentTimeMillis();
+        long expiresAt = now + HOUR;
+        Set<TypedTuple<String>> stored = Set.of(new DefaultTypedTuple<>("stored-id", (double) expiresAt));
+        when(zSetOperations.rangeByScoreWithScores(eq(TokenRevocationList.REVOKED_KEY), eq((double) now), anyDouble()))
+                .thenReturn(stored);
+
+        // When
+        revocationList.resync(now);
+
+        // Then
+        assertTrue(revocationList.isRevoked("stored-id", new Date(expiresAt)));
+        verify(zSetOperations).removeRangeByScore(TokenRevocationList.REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+    }
+
+    @Test
+    void testSweepDropsExpiredBuckets() {
+        // Given
+        long now = System.currentTimeMillis();
+        Date expiresAt = new Date(now + HOUR);
+        revocationList.revoke("revoked-id", expiresAt);
+
+        // When - 토큰 만료 이후
+        revocationList.sweep(now + 2 * HOUR);
+
+        // Then
+        assertEquals(0, revocationList.size());
+        assertFalse(revocationList.isRevoked("revoked-id", expiresAt));
+    }
+
+    @Test
+    void testExpiredTokenIsNotStored() {
+        // When
+        revocationList.revoke("expired-id", new Date(System.currentTimeMillis() - 1000));
+
+        // Then
+        assertEquals(0, revocationList.size());
+        verifyNoInteractions(zSetOperations);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.security;
+
+import com.example.domain.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private VerifiedTokenCache cache;
+
+    private final AuthUser authUser = new AuthUser(1L, "nickname", "username", UserRole.ROLE_USER);
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache(true, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testHitAfterPut() {
+        // Given
+        cache.put("token", authUser, new Date(System.currentTimeMillis() + 60_000));
+
+        // When
+        AuthUser cached = cache.get("token");
+
+        // Then
+        assertSame(authUser, cached);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void testMissForUnknownToken() {
+        // When & Then
+        assertNull(cache.get("unknown"));
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void testExpiredTokenIsNeverServed() {
+        // Given
+        cache.put("expired", authUser, new Date(System.currentTimeMillis() - 1000));
+
+        // When & Then
+        assertNull(cache.get("expired"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        // Given
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            cache.put("token-" + i, authUser, expiration);
+        }
+
+        // Then
+        assertTrue(cache.size() <= 100, "cache must not grow past max-size");
+        assertTrue(cache.getEvictionCount() > 0);
+    }
+
+    @Test
+    void testDisabledCacheNeverStores() {
+        // Given
+        VerifiedTokenCache disabled = new VerifiedTokenCache(false, 100, new SimpleMeterRegistry());
+        disabled.put("token", authUser, new Date(System.currentTimeMillis() + 60_000));
+
+        // When & Then
+        assertNull(disabled.get("token"));
+        assertEquals(0, disabled.size());
+    }
+}